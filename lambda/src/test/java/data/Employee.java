@@ -5,15 +5,21 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+/**
+ * Immutable employee. The job history is copied once on construction and shared read-only afterwards.
+ */
 public class Employee {
     private final Person person;
     private final List<JobHistoryEntry> jobHistory;
 
     public Employee(Person person, List<JobHistoryEntry> jobHistory) {
         this.person = person;
-        this.jobHistory = jobHistory;
+        this.jobHistory = Collections.unmodifiableList(new ArrayList<>(jobHistory));
     }
 
     public Employee withPerson(Person p) {
@@ -28,8 +34,21 @@ public class Employee {
         return person;
     }
 
+    /**
+     * @return unmodifiable view of the job history, no copy is made
+     */
     public List<JobHistoryEntry> getJobHistory() {
-        return new ArrayList<>(jobHistory);
+        return jobHistory;
+    }
+
+    public Stream<JobHistoryEntry> streamJobHistory() {
+        return jobHistory.stream();
+    }
+
+    public void forEachJobHistory(Consumer<? super JobHistoryEntry> action) {
+        for (int i = 0, size = jobHistory.size(); i < size; i++) {
+            action.accept(jobHistory.get(i));
+        }
     }
 
     @Override
@@ -0,0 +1,60 @@
+package part1.example;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@State(Scope.Thread)
+public class ArrayDoubleBenchmark {
+
+    @Param({"100000", "1000000", "10000000", "100000000"})
+    public int length;
+
+    public double[] array;
+
+    @Setup
+    public void setup() {
+        array = new double[length];
+
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ThreadLocalRandom.current().nextDouble();
+        }
+    }
+
+
+    @Benchmark
+    public double baiseline_seq() {
+        return Arrays.stream(array)
+                .sequential()
+                .sum();
+    }
+
+    @Benchmark
+    public double baiseline_par() {
+        return Arrays.stream(array)
+                .parallel()
+                .sum();
+    }
+
+    @Benchmark
+    public double test_seq() {
+        final boolean parallel = false;
+        return StreamSupport.doubleStream(new ArrayExample.DoubleArraySpliterator(array), parallel)
+                .sum();
+    }
+
+    @Benchmark
+    public double test_par() {
+        final boolean parallel = true;
+        return StreamSupport.doubleStream(new ArrayExample.DoubleArraySpliterator(array), parallel)
+                .sum();
+    }
+}
@@ -2,12 +2,14 @@ package part1.example;
 
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
 import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 
 //https://github.com/java8-course/spliterator.git
 
 public class ArrayExample {
-    public static class IntArraySpliterator extends Spliterators.AbstractIntSpliterator {
+    public static class IntArraySpliterator extends Spliterators.AbstractIntSpliterator implements ChunkedIntSpliterator {
 
         private final int[] array;
         private int startInclusive;
@@ -31,17 +33,174 @@ public class ArrayExample {
 
         @Override
         public boolean tryAdvance(IntConsumer action) {
+            if (startInclusive < endExclusive) {
+                action.accept(array[startInclusive]);
+                startInclusive += 1;
+                return true;
+            }
             return false;
         }
 
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            final int[] array = this.array;
+            final int end = endExclusive;
+            int i = startInclusive;
+            startInclusive = end;
+            for (; i < end; i++) {
+                action.accept(array[i]);
+            }
+        }
+
+        @Override
+        public void forEachRemainingChunk(IntChunkConsumer action) {
+            final int start = startInclusive;
+            startInclusive = endExclusive;
+            if (start < endExclusive) {
+                action.accept(array, start, endExclusive);
+            }
+        }
+
         @Override
         public long estimateSize() {
-            return 0;
+            return endExclusive - startInclusive;
         }
 
         @Override
         public OfInt trySplit() {
-            return null;
+            final int length = endExclusive - startInclusive;
+            if (length < 2) {
+                return null;
+            }
+
+            final int mid = startInclusive + length / 2;
+            final IntArraySpliterator res = new IntArraySpliterator(array, startInclusive, mid);
+            startInclusive = mid;
+            return res;
+        }
+    }
+
+    public static class LongArraySpliterator extends Spliterators.AbstractLongSpliterator {
+
+        private final long[] array;
+        private int startInclusive;
+        private final int endExclusive;
+
+        public LongArraySpliterator(long[] array) {
+            this(array, 0, array.length);
+        }
+
+        private LongArraySpliterator(long[] array, int startInclusive, int endExclusive) {
+            super(endExclusive - startInclusive,
+                    Spliterator.IMMUTABLE
+                            | Spliterator.ORDERED
+                            | Spliterator.SIZED
+                            | Spliterator.SUBSIZED
+                            | Spliterator.NONNULL);
+            this.array = array;
+            this.startInclusive = startInclusive;
+            this.endExclusive = endExclusive;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (startInclusive < endExclusive) {
+                action.accept(array[startInclusive]);
+                startInclusive += 1;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            final long[] array = this.array;
+            final int end = endExclusive;
+            int i = startInclusive;
+            startInclusive = end;
+            for (; i < end; i++) {
+                action.accept(array[i]);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return endExclusive - startInclusive;
+        }
+
+        @Override
+        public OfLong trySplit() {
+            final int length = endExclusive - startInclusive;
+            if (length < 2) {
+                return null;
+            }
+
+            final int mid = startInclusive + length / 2;
+            final LongArraySpliterator res = new LongArraySpliterator(array, startInclusive, mid);
+            startInclusive = mid;
+            return res;
+        }
+    }
+
+    public static class DoubleArraySpliterator extends Spliterators.AbstractDoubleSpliterator {
+
+        private final double[] array;
+        private int startInclusive;
+        private final int endExclusive;
+
+        public DoubleArraySpliterator(double[] array) {
+            this(array, 0, array.length);
+        }
+
+        private DoubleArraySpliterator(double[] array, int startInclusive, int endExclusive) {
+            super(endExclusive - startInclusive,
+                    Spliterator.IMMUTABLE
+                            | Spliterator.ORDERED
+                            | Spliterator.SIZED
+                            | Spliterator.SUBSIZED
+                            | Spliterator.NONNULL);
+            this.array = array;
+            this.startInclusive = startInclusive;
+            this.endExclusive = endExclusive;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (startInclusive < endExclusive) {
+                action.accept(array[startInclusive]);
+                startInclusive += 1;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            final double[] array = this.array;
+            final int end = endExclusive;
+            int i = startInclusive;
+            startInclusive = end;
+            for (; i < end; i++) {
+                action.accept(array[i]);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return endExclusive - startInclusive;
+        }
+
+        @Override
+        public OfDouble trySplit() {
+            final int length = endExclusive - startInclusive;
+            if (length < 2) {
+                return null;
+            }
+
+            final int mid = startInclusive + length / 2;
+            final DoubleArraySpliterator res = new DoubleArraySpliterator(array, startInclusive, mid);
+            startInclusive = mid;
+            return res;
         }
     }
 }
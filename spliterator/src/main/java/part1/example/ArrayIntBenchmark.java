@@ -12,9 +12,10 @@ import java.util.stream.StreamSupport;
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
 @Warmup(iterations = 5, time = 3)
 @Measurement(iterations = 5, time = 3)
+@State(Scope.Thread)
 public class ArrayIntBenchmark {
 
-    @Param({"100000"})
+    @Param({"100000", "1000000", "10000000", "100000000"})
     public int length;
 
     public int[] array;
@@ -60,4 +61,16 @@ public class ArrayIntBenchmark {
                 .asLongStream()
                 .sum();
     }
+
+    @Benchmark
+    public long chunked_seq() {
+        final boolean parallel = false;
+        return ChunkedInts.sum(new ArrayExample.IntArraySpliterator(array), parallel);
+    }
+
+    @Benchmark
+    public long chunked_par() {
+        final boolean parallel = true;
+        return ChunkedInts.sum(new ArrayExample.IntArraySpliterator(array), parallel);
+    }
 }
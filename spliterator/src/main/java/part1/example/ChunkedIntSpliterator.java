@@ -0,0 +1,22 @@
+package part1.example;
+
+import java.util.Spliterator;
+
+/**
+ * {@link Spliterator.OfInt} backed by {@code int[]} storage that can hand out its remaining
+ * elements as array slices. A consumer of slices runs a plain indexed loop instead of
+ * a lambda call per element; see {@link ChunkedInts}.
+ */
+public interface ChunkedIntSpliterator extends Spliterator.OfInt {
+
+    @FunctionalInterface
+    interface IntChunkConsumer {
+        void accept(int[] array, int fromInclusive, int toExclusive);
+    }
+
+    /**
+     * Same as {@link #forEachRemaining(java.util.function.IntConsumer)}, but the elements
+     * are passed in order as one or more slices of the backing arrays.
+     */
+    void forEachRemainingChunk(IntChunkConsumer action);
+}
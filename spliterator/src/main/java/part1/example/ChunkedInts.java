@@ -0,0 +1,212 @@
+package part1.example;
+
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Terminal operations over {@link Spliterator.OfInt}. Slices of a {@link ChunkedIntSpliterator}
+ * are reduced with tight loops, any other spliterator falls back to per-element traversal.
+ * Parallel versions split the spliterator on the common pool the way parallel streams do.
+ */
+public class ChunkedInts {
+
+    private ChunkedInts() {
+    }
+
+    public static long sum(Spliterator.OfInt spliterator, boolean parallel) {
+        return reduce(spliterator, parallel, SUM);
+    }
+
+    public static OptionalInt min(Spliterator.OfInt spliterator, boolean parallel) {
+        return toOptional(reduce(spliterator, parallel, MIN));
+    }
+
+    public static OptionalInt max(Spliterator.OfInt spliterator, boolean parallel) {
+        return toOptional(reduce(spliterator, parallel, MAX));
+    }
+
+    /**
+     * Counts elements per bucket {@code [lower + i * width, lower + (i + 1) * width)}.
+     * Elements outside of all buckets are not counted.
+     */
+    public static long[] histogram(Spliterator.OfInt spliterator, int lower, int width, int buckets, boolean parallel) {
+        if (width <= 0 || buckets < 0) {
+            throw new IllegalArgumentException("width: " + width + ", buckets: " + buckets);
+        }
+        return reduce(spliterator, parallel, new Histogram(lower, width, buckets));
+    }
+
+    private static OptionalInt toOptional(long[] minOrMax) {
+        return minOrMax[1] == 0 ? OptionalInt.empty() : OptionalInt.of((int) minOrMax[0]);
+    }
+
+    private static <R> R reduce(Spliterator.OfInt spliterator, boolean parallel, Reduction<R> reduction) {
+        if (!parallel) {
+            return reduction.leaf(spliterator);
+        }
+        final long sizeThreshold = Math.max(1, spliterator.estimateSize() / (ForkJoinPool.getCommonPoolParallelism() << 2));
+        return ForkJoinPool.commonPool().invoke(new ReduceTask<>(spliterator, reduction, sizeThreshold));
+    }
+
+    private interface Reduction<R> {
+        R leaf(Spliterator.OfInt spliterator);
+
+        R combine(R left, R right);
+    }
+
+    private static class ReduceTask<R> extends RecursiveTask<R> {
+        private final Spliterator.OfInt spliterator;
+        private final Reduction<R> reduction;
+        private final long sizeThreshold;
+
+        private ReduceTask(Spliterator.OfInt spliterator, Reduction<R> reduction, long sizeThreshold) {
+            this.spliterator = spliterator;
+            this.reduction = reduction;
+            this.sizeThreshold = sizeThreshold;
+        }
+
+        @Override
+        protected R compute() {
+            if (spliterator.estimateSize() > sizeThreshold) {
+                final Spliterator.OfInt prefix = spliterator.trySplit();
+                if (prefix != null) {
+                    final ReduceTask<R> left = new ReduceTask<>(prefix, reduction, sizeThreshold);
+                    left.fork();
+                    final R right = new ReduceTask<>(spliterator, reduction, sizeThreshold).compute();
+                    return reduction.combine(left.join(), right);
+                }
+            }
+            return reduction.leaf(spliterator);
+        }
+    }
+
+    private static final Reduction<Long> SUM = new Reduction<Long>() {
+        @Override
+        public Long leaf(Spliterator.OfInt spliterator) {
+            final long[] sum = {0};
+            if (spliterator instanceof ChunkedIntSpliterator) {
+                ((ChunkedIntSpliterator) spliterator).forEachRemainingChunk((array, from, to) -> {
+                    long result = 0;
+                    for (int i = from; i < to; i++) {
+                        result += array[i];
+                    }
+                    sum[0] += result;
+                });
+            } else {
+                spliterator.forEachRemaining((int value) -> sum[0] += value);
+            }
+            return sum[0];
+        }
+
+        @Override
+        public Long combine(Long left, Long right) {
+            return left + right;
+        }
+    };
+
+    // {value, count}
+    private static final Reduction<long[]> MIN = new Reduction<long[]>() {
+        @Override
+        public long[] leaf(Spliterator.OfInt spliterator) {
+            final long[] res = {Integer.MAX_VALUE, 0};
+            if (spliterator instanceof ChunkedIntSpliterator) {
+                ((ChunkedIntSpliterator) spliterator).forEachRemainingChunk((array, from, to) -> {
+                    int result = Integer.MAX_VALUE;
+                    for (int i = from; i < to; i++) {
+                        result = Math.min(result, array[i]);
+                    }
+                    res[0] = Math.min(res[0], result);
+                    res[1] += to - from;
+                });
+            } else {
+                spliterator.forEachRemaining((int value) -> {
+                    res[0] = Math.min(res[0], value);
+                    res[1] += 1;
+                });
+            }
+            return res;
+        }
+
+        @Override
+        public long[] combine(long[] left, long[] right) {
+            return new long[]{Math.min(left[0], right[0]), left[1] + right[1]};
+        }
+    };
+
+    // {value, count}
+    private static final Reduction<long[]> MAX = new Reduction<long[]>() {
+        @Override
+        public long[] leaf(Spliterator.OfInt spliterator) {
+            final long[] res = {Integer.MIN_VALUE, 0};
+            if (spliterator instanceof ChunkedIntSpliterator) {
+                ((ChunkedIntSpliterator) spliterator).forEachRemainingChunk((array, from, to) -> {
+                    int result = Integer.MIN_VALUE;
+                    for (int i = from; i < to; i++) {
+                        result = Math.max(result, array[i]);
+                    }
+                    res[0] = Math.max(res[0], result);
+                    res[1] += to - from;
+                });
+            } else {
+                spliterator.forEachRemaining((int value) -> {
+                    res[0] = Math.max(res[0], value);
+                    res[1] += 1;
+                });
+            }
+            return res;
+        }
+
+        @Override
+        public long[] combine(long[] left, long[] right) {
+            return new long[]{Math.max(left[0], right[0]), left[1] + right[1]};
+        }
+    };
+
+    private static class Histogram implements Reduction<long[]> {
+        private final int lower;
+        private final int width;
+        private final int buckets;
+
+        private Histogram(int lower, int width, int buckets) {
+            this.lower = lower;
+            this.width = width;
+            this.buckets = buckets;
+        }
+
+        @Override
+        public long[] leaf(Spliterator.OfInt spliterator) {
+            final long[] counts = new long[buckets];
+            final long lower = this.lower;
+            final long width = this.width;
+            final int buckets = this.buckets;
+            if (spliterator instanceof ChunkedIntSpliterator) {
+                ((ChunkedIntSpliterator) spliterator).forEachRemainingChunk((array, from, to) -> {
+                    for (int i = from; i < to; i++) {
+                        final long offset = array[i] - lower;
+                        if (offset >= 0 && offset / width < buckets) {
+                            counts[(int) (offset / width)]++;
+                        }
+                    }
+                });
+            } else {
+                spliterator.forEachRemaining((int value) -> {
+                    final long offset = value - lower;
+                    if (offset >= 0 && offset / width < buckets) {
+                        counts[(int) (offset / width)]++;
+                    }
+                });
+            }
+            return counts;
+        }
+
+        @Override
+        public long[] combine(long[] left, long[] right) {
+            for (int i = 0; i < left.length; i++) {
+                left[i] += right[i];
+            }
+            return left;
+        }
+    }
+}
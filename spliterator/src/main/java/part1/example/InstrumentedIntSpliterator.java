@@ -0,0 +1,94 @@
+package part1.example;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Wraps a spliterator and reports every leaf it ends up traversing to a {@link SplitRecorder}:
+ * split depth, number of elements, wall time and whether the leaf was traversed
+ * by another thread than the one that split it off (i.e. it was stolen).
+ */
+public class InstrumentedIntSpliterator implements Spliterator.OfInt {
+    private final Spliterator.OfInt delegate;
+    private final SplitRecorder recorder;
+    private final int depth;
+    private final Thread owner;
+    private long advanced;
+    private long advanceStart;
+
+    InstrumentedIntSpliterator(Spliterator.OfInt delegate, SplitRecorder recorder) {
+        this(delegate, recorder, 0);
+    }
+
+    private InstrumentedIntSpliterator(Spliterator.OfInt delegate, SplitRecorder recorder, int depth) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+        this.depth = depth;
+        this.owner = Thread.currentThread();
+    }
+
+    @Override
+    public OfInt trySplit() {
+        final OfInt prefix = delegate.trySplit();
+        return prefix == null ? null : new InstrumentedIntSpliterator(prefix, recorder, depth + 1);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (advanced == 0) {
+            advanceStart = System.nanoTime();
+        }
+        if (delegate.tryAdvance(action)) {
+            advanced += 1;
+            return true;
+        }
+        if (advanced > 0) {
+            record(advanced, advanceStart);
+            advanced = 0;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        final long start = advanced == 0 ? System.nanoTime() : advanceStart;
+        if (delegate.hasCharacteristics(Spliterator.SIZED)) {
+            final long size = delegate.estimateSize();
+            delegate.forEachRemaining(action);
+            record(advanced + size, start);
+        } else {
+            final long[] count = {advanced};
+            delegate.forEachRemaining((int value) -> {
+                count[0]++;
+                action.accept(value);
+            });
+            record(count[0], start);
+        }
+        advanced = 0;
+    }
+
+    private void record(long elements, long start) {
+        recorder.record(depth, elements, System.nanoTime() - start, Thread.currentThread() != owner);
+    }
+
+    @Override
+    public long estimateSize() {
+        return delegate.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return delegate.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics() {
+        return delegate.characteristics();
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator() {
+        return delegate.getComparator();
+    }
+}
@@ -0,0 +1,79 @@
+package part1.example;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams a direct int column in place vs copying it to {@code int[]} first.
+ * The buffer benchmarks run with a heap smaller than the column, so the copy would not fit there.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@State(Scope.Thread)
+public class IntBufferBenchmark {
+
+    @Param({"100000000"})
+    public int length;
+
+    public IntBuffer buffer;
+
+    @Setup
+    public void setup() {
+        buffer = ByteBuffer.allocateDirect(length * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+
+        for (int i = 0; i < length; i++) {
+            buffer.put(i, ThreadLocalRandom.current().nextInt());
+        }
+    }
+
+
+    @Benchmark
+    public long array_seq() {
+        final int[] array = new int[buffer.remaining()];
+        buffer.duplicate().get(array);
+        return Arrays.stream(array)
+                .sequential()
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long array_par() {
+        final int[] array = new int[buffer.remaining()];
+        buffer.duplicate().get(array);
+        return Arrays.stream(array)
+                .parallel()
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx256m", "-XX:MaxDirectMemorySize=1g"})
+    public long buffer_seq() {
+        final boolean parallel = false;
+        return StreamSupport.intStream(new IntBufferSpliterator(buffer), parallel)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx256m", "-XX:MaxDirectMemorySize=1g"})
+    public long buffer_par() {
+        final boolean parallel = true;
+        return StreamSupport.intStream(new IntBufferSpliterator(buffer), parallel)
+                .asLongStream()
+                .sum();
+    }
+}
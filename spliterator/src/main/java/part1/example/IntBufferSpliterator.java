@@ -0,0 +1,73 @@
+package part1.example;
+
+import java.nio.IntBuffer;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * Same as {@link ArrayExample.IntArraySpliterator}, but reads a heap or direct {@link IntBuffer}
+ * by absolute index. Neither the buffer contents nor its position are touched,
+ * so a direct buffer is streamed in place without copying it to the heap.
+ */
+public class IntBufferSpliterator extends Spliterators.AbstractIntSpliterator {
+
+    private final IntBuffer buffer;
+    private int startInclusive;
+    private final int endExclusive;
+
+    public IntBufferSpliterator(IntBuffer buffer) {
+        this(buffer, buffer.position(), buffer.limit());
+    }
+
+    private IntBufferSpliterator(IntBuffer buffer, int startInclusive, int endExclusive) {
+        super(endExclusive - startInclusive,
+                Spliterator.IMMUTABLE
+                        | Spliterator.ORDERED
+                        | Spliterator.SIZED
+                        | Spliterator.SUBSIZED
+                        | Spliterator.NONNULL);
+        this.buffer = buffer;
+        this.startInclusive = startInclusive;
+        this.endExclusive = endExclusive;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (startInclusive < endExclusive) {
+            action.accept(buffer.get(startInclusive));
+            startInclusive += 1;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        final IntBuffer buffer = this.buffer;
+        final int end = endExclusive;
+        int i = startInclusive;
+        startInclusive = end;
+        for (; i < end; i++) {
+            action.accept(buffer.get(i));
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return endExclusive - startInclusive;
+    }
+
+    @Override
+    public OfInt trySplit() {
+        final int length = endExclusive - startInclusive;
+        if (length < 2) {
+            return null;
+        }
+
+        final int mid = startInclusive + length / 2;
+        final IntBufferSpliterator res = new IntBufferSpliterator(buffer, startInclusive, mid);
+        startInclusive = mid;
+        return res;
+    }
+}
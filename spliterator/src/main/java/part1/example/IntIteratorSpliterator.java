@@ -0,0 +1,162 @@
+package part1.example;
+
+import java.util.PrimitiveIterator;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Primitive counterpart of {@link Spliterators#spliterator(PrimitiveIterator.OfInt, long, int)}
+ * for iterators of unknown size.
+ *
+ * <p>{@code trySplit} copies the next batch of the iterator into an {@code int[]} and hands it out.
+ * Instead of growing the batch by a fixed step the batch size is derived from the measured cost
+ * of pulling one element: a batch should take about {@link #TARGET_BATCH_NANOS} to fill,
+ * and while few elements have been pulled no batch may exceed the share of one worker.
+ * Buffers come back to a pool once all parts of a batch are traversed.
+ */
+public class IntIteratorSpliterator extends Spliterators.AbstractIntSpliterator {
+    public static final long TARGET_BATCH_NANOS = 50_000;
+    public static final int MIN_BATCH = 64;
+    public static final int MAX_BATCH = 1 << 25;
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final int parallelism;
+    private final Queue<int[]> buffers = new ConcurrentLinkedQueue<>();
+    private long produced;
+    private int batch = MIN_BATCH;
+
+    public IntIteratorSpliterator(PrimitiveIterator.OfInt iterator, int characteristics) {
+        this(iterator, characteristics, ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    public IntIteratorSpliterator(PrimitiveIterator.OfInt iterator, int characteristics, int parallelism) {
+        super(Long.MAX_VALUE, characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED));
+        this.iterator = iterator;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (iterator.hasNext()) {
+            action.accept(iterator.nextInt());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        iterator.forEachRemaining(action);
+    }
+
+    @Override
+    public OfInt trySplit() {
+        if (!iterator.hasNext()) {
+            return null;
+        }
+
+        final int n = batch;
+        int[] buffer = buffers.poll();
+        if (buffer == null || buffer.length < n) {
+            buffer = new int[n];
+        }
+
+        final long start = System.nanoTime();
+        int size = 0;
+        do {
+            buffer[size++] = iterator.nextInt();
+        } while (size < n && iterator.hasNext());
+        final long elapsed = System.nanoTime() - start;
+
+        produced += size;
+        batch = nextBatch(size, elapsed);
+        return new BatchSpliterator(buffer, 0, size, characteristics(), new AtomicInteger(1), buffers);
+    }
+
+    private int nextBatch(int size, long elapsed) {
+        final double nanosPerElement = Math.max(1.0, (double) elapsed / size);
+        final long byCost = (long) (TARGET_BATCH_NANOS / nanosPerElement);
+        final long byParallelism = Math.max(MIN_BATCH, produced / parallelism);
+        return (int) Math.max(MIN_BATCH, Math.min(MAX_BATCH, Math.min(byCost, byParallelism)));
+    }
+
+    /**
+     * Part of a batch. The last part to finish returns the buffer to the pool.
+     */
+    private static class BatchSpliterator extends Spliterators.AbstractIntSpliterator {
+
+        private final int[] array;
+        private int startInclusive;
+        private final int endExclusive;
+        private final AtomicInteger pending;
+        private final Queue<int[]> buffers;
+        private boolean released;
+
+        private BatchSpliterator(int[] array, int startInclusive, int endExclusive, int characteristics,
+                                 AtomicInteger pending, Queue<int[]> buffers) {
+            super(endExclusive - startInclusive, characteristics | Spliterator.SIZED | Spliterator.SUBSIZED);
+            this.array = array;
+            this.startInclusive = startInclusive;
+            this.endExclusive = endExclusive;
+            this.pending = pending;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (startInclusive < endExclusive) {
+                action.accept(array[startInclusive]);
+                startInclusive += 1;
+                return true;
+            }
+            release();
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            final int[] array = this.array;
+            final int end = endExclusive;
+            int i = startInclusive;
+            startInclusive = end;
+            for (; i < end; i++) {
+                action.accept(array[i]);
+            }
+            release();
+        }
+
+        @Override
+        public long estimateSize() {
+            return endExclusive - startInclusive;
+        }
+
+        @Override
+        public OfInt trySplit() {
+            final int length = endExclusive - startInclusive;
+            if (length < 2) {
+                return null;
+            }
+
+            final int mid = startInclusive + length / 2;
+            pending.incrementAndGet();
+            final BatchSpliterator res =
+                    new BatchSpliterator(array, startInclusive, mid, characteristics(), pending, buffers);
+            startInclusive = mid;
+            return res;
+        }
+
+        private void release() {
+            if (!released) {
+                released = true;
+                if (pending.decrementAndGet() == 0) {
+                    buffers.offer(array);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package part1.example;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Binary file of little-endian ints mapped into memory. A single mapping can't exceed 2 GB,
+ * so the file is mapped as a number of equal segments (the last one may be shorter).
+ * Trailing bytes that don't form a whole int are ignored.
+ */
+public class MappedIntFile {
+    public static final long DEFAULT_SEGMENT_BYTES = 1L << 30;
+
+    private final IntBuffer[] segments;
+    private final int segmentInts;
+    private final long size;
+
+    private MappedIntFile(IntBuffer[] segments, int segmentInts, long size) {
+        this.segments = segments;
+        this.segmentInts = segmentInts;
+        this.size = size;
+    }
+
+    public static MappedIntFile map(Path file) throws IOException {
+        return map(file, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public static MappedIntFile map(Path file, long segmentBytes) throws IOException {
+        if (segmentBytes < Integer.BYTES || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentBytes: " + segmentBytes);
+        }
+        final int segmentInts = (int) (segmentBytes / Integer.BYTES);
+
+        // mappings stay valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size() / Integer.BYTES;
+            final IntBuffer[] segments = new IntBuffer[(int) ((size + segmentInts - 1) / segmentInts)];
+            for (int i = 0; i < segments.length; i++) {
+                final long from = (long) i * segmentInts;
+                final long ints = Math.min(segmentInts, size - from);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, from * Integer.BYTES, ints * Integer.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asIntBuffer();
+            }
+            return new MappedIntFile(segments, segmentInts, size);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public Spliterator.OfInt spliterator() {
+        return new MappedIntSpliterator(segments, segmentInts, 0, size);
+    }
+
+    public IntStream stream(boolean parallel) {
+        return StreamSupport.intStream(spliterator(), parallel);
+    }
+
+    public static class MappedIntSpliterator extends Spliterators.AbstractIntSpliterator {
+
+        private final IntBuffer[] segments;
+        private final int segmentInts;
+        private long startInclusive;
+        private final long endExclusive;
+
+        private MappedIntSpliterator(IntBuffer[] segments, int segmentInts, long startInclusive, long endExclusive) {
+            super(endExclusive - startInclusive,
+                    Spliterator.IMMUTABLE
+                            | Spliterator.ORDERED
+                            | Spliterator.SIZED
+                            | Spliterator.SUBSIZED
+                            | Spliterator.NONNULL);
+            this.segments = segments;
+            this.segmentInts = segmentInts;
+            this.startInclusive = startInclusive;
+            this.endExclusive = endExclusive;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (startInclusive < endExclusive) {
+                final int segment = (int) (startInclusive / segmentInts);
+                final int offset = (int) (startInclusive % segmentInts);
+                action.accept(segments[segment].get(offset));
+                startInclusive += 1;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            long position = startInclusive;
+            startInclusive = endExclusive;
+            while (position < endExclusive) {
+                final IntBuffer buffer = segments[(int) (position / segmentInts)];
+                final long segmentStart = position - position % segmentInts;
+                final int from = (int) (position - segmentStart);
+                final int to = (int) Math.min(segmentInts, endExclusive - segmentStart);
+                for (int i = from; i < to; i++) {
+                    action.accept(buffer.get(i));
+                }
+                position = segmentStart + to;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return endExclusive - startInclusive;
+        }
+
+        @Override
+        public OfInt trySplit() {
+            final long length = endExclusive - startInclusive;
+            if (length < 2) {
+                return null;
+            }
+
+            final long firstSegment = startInclusive / segmentInts;
+            final long lastSegment = (endExclusive - 1) / segmentInts;
+            final long mid = firstSegment == lastSegment
+                    ? startInclusive + length / 2
+                    : (firstSegment + (lastSegment - firstSegment + 1) / 2) * segmentInts;
+
+            final MappedIntSpliterator res = new MappedIntSpliterator(segments, segmentInts, startInclusive, mid);
+            startInclusive = mid;
+            return res;
+        }
+    }
+}
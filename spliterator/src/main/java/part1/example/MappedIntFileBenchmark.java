@@ -0,0 +1,99 @@
+package part1.example;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@State(Scope.Thread)
+public class MappedIntFileBenchmark {
+
+    @Param({"100000000"})
+    public long length;
+
+    // small segments make splitting on segment boundaries visible without a multi-gigabyte fixture
+    @Param({"1073741824", "67108864"})
+    public long segmentBytes;
+
+    public Path directory;
+    public Path file;
+    public MappedIntFile mapped;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("mapped-int-file");
+        file = directory.resolve("ints.bin");
+
+        final ByteBuffer chunk = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            for (long i = 0; i < length; i++) {
+                chunk.putInt(ThreadLocalRandom.current().nextInt());
+                if (!chunk.hasRemaining() || i == length - 1) {
+                    chunk.flip();
+                    while (chunk.hasRemaining()) {
+                        channel.write(chunk);
+                    }
+                    chunk.clear();
+                }
+            }
+        }
+
+        mapped = MappedIntFile.map(file, segmentBytes);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mapped = null;
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+
+    @Benchmark
+    public long read_par() throws IOException {
+        final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        final int[] array = new int[bytes.remaining() / Integer.BYTES];
+        bytes.asIntBuffer().get(array);
+        return Arrays.stream(array)
+                .parallel()
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long mapped_seq() {
+        final boolean parallel = false;
+        return mapped.stream(parallel)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long mapped_par() {
+        final boolean parallel = true;
+        return mapped.stream(parallel)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long mapped_filter_par() {
+        final boolean parallel = true;
+        return mapped.stream(parallel)
+                .filter(i -> i > 0)
+                .count();
+    }
+}
@@ -8,6 +8,7 @@ import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -19,6 +20,7 @@ import java.util.stream.StreamSupport;
 @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
 @State(Scope.Thread)
 public class RandomIntegers {
+    private static final long SEED = 42L;
 
     @Param({"100000"})
     public int count;
@@ -40,11 +42,30 @@ public class RandomIntegers {
         };
     }
 
+    public PrimitiveIterator.OfInt createIntIterator() {
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public int nextInt() {
+                return getAnInt();
+            }
+        };
+    }
+
     private int getAnInt() {
         Blackhole.consumeCPU(consume);
         return ThreadLocalRandom.current().nextInt();
     }
 
+    private int consumeAndGet(int i) {
+        Blackhole.consumeCPU(consume);
+        return i;
+    }
+
     @Benchmark
     public long classic() {
         final Iterator<Integer> iterator = createIterator();
@@ -85,6 +106,62 @@ public class RandomIntegers {
                 .sum();
     }
 
+    @Benchmark
+    public long batched_seq() {
+        final Spliterator.OfInt spliterator =
+                new IntIteratorSpliterator(createIntIterator(), (Spliterator.CONCURRENT | Spliterator.NONNULL));
+
+        final boolean parallel = false;
+        return StreamSupport.intStream(spliterator, parallel)
+                .limit(count)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long batched_par() {
+        final Spliterator.OfInt spliterator =
+                new IntIteratorSpliterator(createIntIterator(), (Spliterator.CONCURRENT | Spliterator.NONNULL));
+
+        final boolean parallel = true;
+        return StreamSupport.intStream(spliterator, parallel)
+                .limit(count)
+                .asLongStream()
+                .sum();
+    }
+
+    // The iterator itself is sequential, so work done inside next() can't scale.
+    // Here the per-element work is done downstream of a cheap iterator instead.
+
+    @Benchmark
+    public long fromIterator_downstream_par() {
+        final Iterator<Integer> iterator = new Random().ints().iterator();
+        final Spliterator<Integer> spliterator =
+                Spliterators.spliteratorUnknownSize(iterator, (Spliterator.CONCURRENT | Spliterator.NONNULL));
+
+        final boolean parallel = true;
+        return StreamSupport.stream(spliterator, parallel)
+                .limit(count)
+                .mapToInt(i -> i)
+                .map(this::consumeAndGet)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long batched_downstream_par() {
+        final PrimitiveIterator.OfInt iterator = new Random().ints().iterator();
+        final Spliterator.OfInt spliterator =
+                new IntIteratorSpliterator(iterator, (Spliterator.CONCURRENT | Spliterator.NONNULL));
+
+        final boolean parallel = true;
+        return StreamSupport.intStream(spliterator, parallel)
+                .limit(count)
+                .map(this::consumeAndGet)
+                .asLongStream()
+                .sum();
+    }
+
     @Benchmark
     public long spliterator_seq() {
         final boolean parallel = false;
@@ -107,7 +184,7 @@ public class RandomIntegers {
 
     }
 
-    private class RandomIntegerSpliterator extends Spliterators.AbstractSpliterator<Integer> {
+    class RandomIntegerSpliterator extends Spliterators.AbstractSpliterator<Integer> {
         private long estimation;
 
         private RandomIntegerSpliterator(long estimation) {
@@ -137,6 +214,75 @@ public class RandomIntegers {
         }
     }
 
+    @Benchmark
+    public long spliterator_sized_seq() {
+        final boolean parallel = false;
+        return StreamSupport.intStream(new SizedRandomIntSpliterator(new SplittableRandom(SEED), count), parallel)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long spliterator_sized_par() {
+        final boolean parallel = true;
+        return StreamSupport.intStream(new SizedRandomIntSpliterator(new SplittableRandom(SEED), count), parallel)
+                .asLongStream()
+                .sum();
+    }
+
+    /**
+     * Exactly {@code size} random ints. Every split forks the generator, so for a given seed
+     * the result depends only on the shape of the split tree and not on thread scheduling.
+     */
+    class SizedRandomIntSpliterator extends Spliterators.AbstractIntSpliterator {
+        private final SplittableRandom random;
+        private long size;
+
+        SizedRandomIntSpliterator(SplittableRandom random, long size) {
+            super(size, (Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE));
+            this.random = random;
+            this.size = size;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (size > 0) {
+                Blackhole.consumeCPU(consume);
+                action.accept(random.nextInt());
+                size -= 1;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            final SplittableRandom random = this.random;
+            final long consume = RandomIntegers.this.consume;
+            for (long i = size; i > 0; i--) {
+                Blackhole.consumeCPU(consume);
+                action.accept(random.nextInt());
+            }
+            size = 0;
+        }
+
+        @Override
+        public OfInt trySplit() {
+            if (size < 2) {
+                return null;
+            }
+
+            final long prefix = size / 2;
+            size -= prefix;
+            return new SizedRandomIntSpliterator(random.split(), prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return size;
+        }
+    }
+
     @Benchmark
     public long generate_seq() {
         return Stream.generate(this::getAnInt)
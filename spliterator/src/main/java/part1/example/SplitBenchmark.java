@@ -0,0 +1,92 @@
+package part1.example;
+
+import org.openjdk.jmh.annotations.*;
+import part1.exercise.RectangleSpliterator;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parallel sums over {@link InstrumentedIntSpliterator}s, kept apart from the timing benchmarks.
+ * The recorder is cleared before every iteration and its totals come out as secondary results
+ * (leaves, stolenLeaves, ... per ms); divided by the primary score they give the figures per operation.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class SplitBenchmark {
+
+    // outerLength x innerLength, the flat array has the same elements
+    @Param({"1000x1000", "2x1000000", "1000000x2"})
+    public String shape;
+
+    public int[] array;
+
+    public int[][] rectangle;
+
+    @Setup
+    public void setup() {
+        final String[] dimensions = shape.split("x");
+        final int outerLength = Integer.parseInt(dimensions[0]);
+        final int innerLength = Integer.parseInt(dimensions[1]);
+
+        array = new int[outerLength * innerLength];
+        rectangle = new int[outerLength][innerLength];
+
+        for (int i = 0; i < array.length; i++) {
+            array[i] = ThreadLocalRandom.current().nextInt();
+            rectangle[i / innerLength][i % innerLength] = array[i];
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters
+    public static class Leaves {
+        private final SplitRecorder recorder = new SplitRecorder();
+
+        public long leaves;
+        public long stolenLeaves;
+        public long elements;
+        public long poolSteals;
+
+        @Setup(Level.Iteration)
+        public void start() {
+            recorder.reset();
+            leaves = 0;
+            stolenLeaves = 0;
+            elements = 0;
+            poolSteals = 0;
+            recorder.start();
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop() {
+            recorder.stop();
+            final SplitRecorder.Report report = recorder.report();
+            leaves = report.getLeaves();
+            stolenLeaves = report.getStolenLeaves();
+            elements = report.getTotalElements();
+            poolSteals = report.getPoolSteals();
+        }
+    }
+
+    @Benchmark
+    public long array_par(Leaves leaves) {
+        final boolean parallel = true;
+        return StreamSupport.intStream(leaves.recorder.wrap(new ArrayExample.IntArraySpliterator(array)), parallel)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long rectangle_par(Leaves leaves) {
+        final boolean parallel = true;
+        return StreamSupport.intStream(leaves.recorder.wrap(new RectangleSpliterator(rectangle)), parallel)
+                .asLongStream()
+                .sum();
+    }
+}
@@ -0,0 +1,235 @@
+package part1.example;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Aggregates leaves of {@link InstrumentedIntSpliterator}s. Every thread updates its own fixed-size
+ * counters, so recording takes no locks and doesn't allocate; the counters are only read by {@link #report()}
+ * and cleared by {@link #reset()} while nothing is recorded.
+ */
+public class SplitRecorder {
+    // bucket i counts leaves of [2^(i - 1), 2^i) elements, bucket 0 empty ones
+    static final int SIZE_BUCKETS = 64;
+
+    private final ThreadLocal<Counters> counters = ThreadLocal.withInitial(this::register);
+    private final Queue<Counters> threads = new ConcurrentLinkedQueue<>();
+    private final ForkJoinPool pool;
+    private long stealsAtStart;
+    private long stealsAtStop;
+
+    public SplitRecorder() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SplitRecorder(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public InstrumentedIntSpliterator wrap(Spliterator.OfInt spliterator) {
+        return new InstrumentedIntSpliterator(spliterator, this);
+    }
+
+    public void start() {
+        stealsAtStart = pool.getStealCount();
+    }
+
+    public void stop() {
+        stealsAtStop = pool.getStealCount();
+    }
+
+    /**
+     * Forgets everything recorded so far, e.g. between benchmark iterations.
+     */
+    public void reset() {
+        for (Counters counters : threads) {
+            counters.reset();
+        }
+        stealsAtStart = 0;
+        stealsAtStop = 0;
+    }
+
+    void record(int depth, long elements, long nanos, boolean stolen) {
+        counters.get().add(depth, elements, nanos, stolen);
+    }
+
+    private Counters register() {
+        final Counters res = new Counters(Thread.currentThread().getName());
+        threads.add(res);
+        return res;
+    }
+
+    public Report report() {
+        return new Report(this);
+    }
+
+    private static class Counters {
+        private final String thread;
+        private final long[] sizeBuckets = new long[SIZE_BUCKETS];
+        private long stolenLeaves;
+        private long elements;
+        private int minDepth = Integer.MAX_VALUE;
+        private int maxDepth;
+        private long minLeafSize = Long.MAX_VALUE;
+        private long maxLeafSize;
+        private long minLeafNanos = Long.MAX_VALUE;
+        private long maxLeafNanos;
+        private long totalLeafNanos;
+        // written last by the owner thread and read first by the others, publishes the fields above
+        private volatile long leaves;
+
+        private Counters(String thread) {
+            this.thread = thread;
+        }
+
+        private void add(int depth, long elements, long nanos, boolean stolen) {
+            final long n = leaves;
+            sizeBuckets[64 - Long.numberOfLeadingZeros(elements)]++;
+            if (stolen) {
+                stolenLeaves++;
+            }
+            this.elements += elements;
+            minDepth = Math.min(minDepth, depth);
+            maxDepth = Math.max(maxDepth, depth);
+            minLeafSize = Math.min(minLeafSize, elements);
+            maxLeafSize = Math.max(maxLeafSize, elements);
+            minLeafNanos = Math.min(minLeafNanos, nanos);
+            maxLeafNanos = Math.max(maxLeafNanos, nanos);
+            totalLeafNanos += nanos;
+            leaves = n + 1;
+        }
+
+        private void reset() {
+            if (leaves == 0) {
+                return;
+            }
+            Arrays.fill(sizeBuckets, 0);
+            stolenLeaves = 0;
+            elements = 0;
+            minDepth = Integer.MAX_VALUE;
+            maxDepth = 0;
+            minLeafSize = Long.MAX_VALUE;
+            maxLeafSize = 0;
+            minLeafNanos = Long.MAX_VALUE;
+            maxLeafNanos = 0;
+            totalLeafNanos = 0;
+            leaves = 0;
+        }
+    }
+
+    public static class Report {
+        private final Map<String, Long> elementsPerThread = new LinkedHashMap<>();
+        private final long[] sizeBuckets = new long[SIZE_BUCKETS];
+        private long leaves;
+        private long stolenLeaves;
+        private int minDepth = Integer.MAX_VALUE;
+        private int maxDepth;
+        private long totalElements;
+        private long minLeafSize = Long.MAX_VALUE;
+        private long maxLeafSize;
+        private long minLeafNanos = Long.MAX_VALUE;
+        private long maxLeafNanos;
+        private long totalLeafNanos;
+        private final long poolSteals;
+
+        private Report(SplitRecorder recorder) {
+            for (Counters counters : recorder.threads) {
+                final long threadLeaves = counters.leaves;
+                if (threadLeaves == 0) {
+                    continue;
+                }
+                leaves += threadLeaves;
+                for (int i = 0; i < SIZE_BUCKETS; i++) {
+                    sizeBuckets[i] += counters.sizeBuckets[i];
+                }
+                stolenLeaves += counters.stolenLeaves;
+                minDepth = Math.min(minDepth, counters.minDepth);
+                maxDepth = Math.max(maxDepth, counters.maxDepth);
+                minLeafSize = Math.min(minLeafSize, counters.minLeafSize);
+                maxLeafSize = Math.max(maxLeafSize, counters.maxLeafSize);
+                minLeafNanos = Math.min(minLeafNanos, counters.minLeafNanos);
+                maxLeafNanos = Math.max(maxLeafNanos, counters.maxLeafNanos);
+                totalLeafNanos += counters.totalLeafNanos;
+                elementsPerThread.merge(counters.thread, counters.elements, Long::sum);
+                totalElements += counters.elements;
+            }
+            poolSteals = recorder.stealsAtStop - recorder.stealsAtStart;
+        }
+
+        public long getLeaves() {
+            return leaves;
+        }
+
+        public long getStolenLeaves() {
+            return stolenLeaves;
+        }
+
+        public long getTotalElements() {
+            return totalElements;
+        }
+
+        public int getMaxDepth() {
+            return maxDepth;
+        }
+
+        public long getTotalLeafNanos() {
+            return totalLeafNanos;
+        }
+
+        /**
+         * Steals of the pool between {@link SplitRecorder#start()} and {@link SplitRecorder#stop()}.
+         */
+        public long getPoolSteals() {
+            return poolSteals;
+        }
+
+        /**
+         * Leaves by size: element {@code i} counts leaves of {@code [2^(i - 1), 2^i)} elements.
+         */
+        public long[] getLeafSizeBuckets() {
+            return sizeBuckets.clone();
+        }
+
+        public Map<String, Long> getElementsPerThread() {
+            return elementsPerThread;
+        }
+
+        /**
+         * Elements of the busiest thread to the average per thread: 1 is a perfect balance.
+         */
+        public double getThreadImbalance() {
+            if (elementsPerThread.isEmpty() || totalElements == 0) {
+                return 1.0;
+            }
+            final long max = elementsPerThread.values().stream().mapToLong(Long::longValue).max().getAsLong();
+            return (double) max * elementsPerThread.size() / totalElements;
+        }
+
+        @Override
+        public String toString() {
+            if (leaves == 0) {
+                return "no leaves recorded";
+            }
+            final StringBuilder res = new StringBuilder()
+                    .append(String.format("elements=%d, leaves=%d (stolen %d), depth=%d..%d, leaf size=%d..%d avg %d%n",
+                            totalElements, leaves, stolenLeaves, minDepth, maxDepth, minLeafSize, maxLeafSize, totalElements / leaves))
+                    .append(String.format("leaf time us=%.1f..%.1f avg %.1f, pool steals=%d%n",
+                            minLeafNanos / 1e3, maxLeafNanos / 1e3, totalLeafNanos / 1e3 / leaves, poolSteals))
+                    .append(String.format("threads=%d, imbalance=%.2f%n", elementsPerThread.size(), getThreadImbalance()));
+            res.append("leaf sizes:");
+            for (int i = 0; i < SIZE_BUCKETS; i++) {
+                if (sizeBuckets[i] > 0) {
+                    res.append(' ').append(i == 0 ? 0 : 1L << (i - 1)).append("+=").append(sizeBuckets[i]);
+                }
+            }
+            res.append('\n');
+            elementsPerThread.forEach((thread, elements) -> res.append("  ").append(thread).append(": ").append(elements).append('\n'));
+            return res.toString();
+        }
+    }
+}
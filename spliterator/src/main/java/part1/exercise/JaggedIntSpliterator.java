@@ -0,0 +1,136 @@
+package part1.exercise;
+
+
+import part1.example.ChunkedIntSpliterator;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * Traverses ragged {@code int[][]} row by row. Rows may have any length, so the
+ * range is kept as element positions {@code [startInclusive, endExclusive)} and
+ * mapped back to rows through a prefix sum of row lengths shared by all splits.
+ */
+public class JaggedIntSpliterator extends Spliterators.AbstractIntSpliterator implements ChunkedIntSpliterator {
+
+    private final int[][] array;
+    // offsets[i] is the number of elements before row i, offsets[array.length] is the total
+    private final long[] offsets;
+    private long startInclusive;
+    private final long endExclusive;
+    private int outer;
+    private int inner;
+
+    public JaggedIntSpliterator(int[][] array) {
+        this(array, prefixSum(array), 0, -1);
+    }
+
+    private JaggedIntSpliterator(int[][] array, long[] offsets, long startInclusive, long endExclusive) {
+        super(Long.MAX_VALUE, Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL);
+
+        this.array = array;
+        this.offsets = offsets;
+        this.startInclusive = startInclusive;
+        this.endExclusive = endExclusive < 0 ? offsets[array.length] : endExclusive;
+        seek(startInclusive);
+    }
+
+    private static long[] prefixSum(int[][] array) {
+        final long[] offsets = new long[array.length + 1];
+        for (int i = 0; i < array.length; i++) {
+            offsets[i + 1] = offsets[i] + array[i].length;
+        }
+        return offsets;
+    }
+
+    /**
+     * Positions the cursor on the row holding element {@code position}, skipping empty rows.
+     */
+    private void seek(long position) {
+        int row = Arrays.binarySearch(offsets, position);
+        if (row < 0) {
+            row = -row - 2;
+        } else {
+            // several empty rows share the same offset, take the last of them
+            while (row < array.length && offsets[row + 1] == position) {
+                row++;
+            }
+        }
+        outer = row;
+        inner = (int) (position - offsets[row]);
+    }
+
+    @Override
+    public OfInt trySplit() {
+        final long size = endExclusive - startInclusive;
+        if (size < 2) {
+            return null;
+        }
+
+        final long mid = startInclusive + size / 2;
+        final JaggedIntSpliterator prefix = new JaggedIntSpliterator(array, offsets, startInclusive, mid);
+        startInclusive = mid;
+        seek(mid);
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return endExclusive - startInclusive;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (startInclusive >= endExclusive) {
+            return false;
+        }
+
+        while (inner >= array[outer].length) {
+            outer += 1;
+            inner = 0;
+        }
+        action.accept(array[outer][inner]);
+        inner += 1;
+        startInclusive += 1;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        final int[][] array = this.array;
+        long remaining = endExclusive - startInclusive;
+        int outer = this.outer;
+        int inner = this.inner;
+        while (remaining > 0) {
+            final int[] row = array[outer];
+            final int rowEnd = (int) Math.min(row.length, inner + remaining);
+            for (int i = inner; i < rowEnd; i++) {
+                action.accept(row[i]);
+            }
+            remaining -= rowEnd - inner;
+            outer += 1;
+            inner = 0;
+        }
+        startInclusive = endExclusive;
+    }
+
+    @Override
+    public void forEachRemainingChunk(IntChunkConsumer action) {
+        long remaining = endExclusive - startInclusive;
+        int outer = this.outer;
+        int inner = this.inner;
+        startInclusive = endExclusive;
+        while (remaining > 0) {
+            final int[] row = array[outer];
+            final int rowEnd = (int) Math.min(row.length, inner + remaining);
+            if (inner < rowEnd) {
+                action.accept(row, inner, rowEnd);
+                remaining -= rowEnd - inner;
+            }
+            outer += 1;
+            inner = 0;
+        }
+    }
+}
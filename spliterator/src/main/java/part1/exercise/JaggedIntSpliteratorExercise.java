@@ -0,0 +1,94 @@
+package part1.exercise;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class JaggedIntSpliteratorExercise {
+
+    @Param({"10000000"})
+    public int totalLength;
+
+    @Param({"1000"})
+    public int outerLength;
+
+    // share of all elements that goes to a single row, in percents
+    @Param({"0", "90"})
+    public int skew;
+
+    public int[][] array;
+
+    @Setup
+    public void setup() {
+        final int bigLength = (int) ((long) totalLength * skew / 100);
+        final int[] lengths = new int[outerLength];
+        lengths[outerLength / 2] = bigLength;
+
+        // spread the rest over the remaining rows with lengths varying by orders of magnitude
+        int rest = totalLength - bigLength;
+        for (int i = 0; i < outerLength && rest > 0; i++) {
+            if (i == outerLength / 2) {
+                continue;
+            }
+            final int length = i == outerLength - 1
+                    ? rest
+                    : Math.min(rest, ThreadLocalRandom.current().nextInt(2 * totalLength / outerLength + 1));
+            lengths[i] += length;
+            rest -= length;
+        }
+        lengths[outerLength / 2] += rest;
+
+        array = new int[outerLength][];
+        for (int i = 0; i < array.length; i++) {
+            int[] inner = new int[lengths[i]];
+            array[i] = inner;
+            for (int j = 0; j < inner.length; j++) {
+                inner[j] = ThreadLocalRandom.current().nextInt();
+            }
+        }
+    }
+
+
+    @Benchmark
+    public long baiseline_seq() {
+        return Arrays.stream(array)
+                .sequential()
+                .flatMapToInt(Arrays::stream)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long baiseline_par() {
+        return Arrays.stream(array)
+                .parallel()
+                .flatMapToInt(Arrays::stream)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long jagged_seq() {
+        final boolean parallel = false;
+        return StreamSupport.intStream(new JaggedIntSpliterator(array), parallel)
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long jagged_par() {
+        final boolean parallel = true;
+        return StreamSupport.intStream(new JaggedIntSpliterator(array), parallel)
+                .asLongStream()
+                .sum();
+    }
+}
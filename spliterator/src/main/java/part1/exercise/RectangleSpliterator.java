@@ -1,23 +1,33 @@
 package part1.exercise;
 
 
+import part1.example.ChunkedIntSpliterator;
+
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.IntConsumer;
 
-public class RectangleSpliterator extends Spliterators.AbstractIntSpliterator {
+/**
+ * Traverses {@code int[][]} row by row. The covered range starts at
+ * {@code [startOuterInclusive][startInnerInclusive]} and ends right before
+ * {@code [endOuterExclusive - 1][endInnerExclusive]}.
+ */
+public class RectangleSpliterator extends Spliterators.AbstractIntSpliterator implements ChunkedIntSpliterator {
 
     private final int innerLength;
     private final int[][] array;
-    private final int startOuterInclusive;
+    private int startOuterInclusive;
     private final int endOuterExclusive;
-    private final int startInnerInclusive;
+    private int startInnerInclusive;
+    private final int endInnerExclusive;
 
     public RectangleSpliterator(int[][] array) {
-        this(array, 0, array.length, 0);
+        this(array, 0, array.length, 0, array.length == 0 ? 0 : array[0].length);
     }
 
-    private RectangleSpliterator(int[][] array, int startOuterInclusive, int endOuterExclusive, int startInnerInclusive) {
+    private RectangleSpliterator(int[][] array,
+                                 int startOuterInclusive, int endOuterExclusive,
+                                 int startInnerInclusive, int endInnerExclusive) {
         super(Long.MAX_VALUE, Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL);
 
         innerLength = array.length == 0 ? 0 : array[0].length;
@@ -25,22 +35,100 @@ public class RectangleSpliterator extends Spliterators.AbstractIntSpliterator {
         this.startOuterInclusive = startOuterInclusive;
         this.endOuterExclusive = endOuterExclusive;
         this.startInnerInclusive = startInnerInclusive;
+        this.endInnerExclusive = endInnerExclusive;
     }
 
     @Override
     public OfInt trySplit() {
-        // TODO
-        throw new UnsupportedOperationException();
+        final long size = estimateSize();
+        if (size < 2) {
+            return null;
+        }
+
+        final int rows = endOuterExclusive - startOuterInclusive;
+        final int midOuter;
+        final int midInner;
+        if (rows > 2) {
+            // many rows left: split on a row boundary
+            midOuter = startOuterInclusive + rows / 2;
+            midInner = 0;
+        } else {
+            // one or two rows left: split inside the row(s) by element count
+            final long mid = startInnerInclusive + size / 2;
+            midOuter = startOuterInclusive + (int) (mid / innerLength);
+            midInner = (int) (mid % innerLength);
+        }
+
+        final RectangleSpliterator prefix = midInner == 0
+                ? new RectangleSpliterator(array, startOuterInclusive, midOuter, startInnerInclusive, innerLength)
+                : new RectangleSpliterator(array, startOuterInclusive, midOuter + 1, startInnerInclusive, midInner);
+        startOuterInclusive = midOuter;
+        startInnerInclusive = midInner;
+        return prefix;
     }
 
     @Override
     public long estimateSize() {
-        return ((long) endOuterExclusive - startOuterInclusive)*innerLength - startInnerInclusive;
+        if (startOuterInclusive >= endOuterExclusive) {
+            return 0;
+        }
+        return ((long) endOuterExclusive - startOuterInclusive) * innerLength
+                - startInnerInclusive
+                - (innerLength - endInnerExclusive);
     }
 
     @Override
     public boolean tryAdvance(IntConsumer action) {
-        // TODO
-        throw new UnsupportedOperationException();
+        if (startOuterInclusive >= endOuterExclusive) {
+            return false;
+        }
+
+        final boolean lastRow = startOuterInclusive == endOuterExclusive - 1;
+        final int rowEnd = lastRow ? endInnerExclusive : innerLength;
+        if (startInnerInclusive >= rowEnd) {
+            return false;
+        }
+
+        action.accept(array[startOuterInclusive][startInnerInclusive]);
+        startInnerInclusive += 1;
+        if (startInnerInclusive == innerLength && !lastRow) {
+            startOuterInclusive += 1;
+            startInnerInclusive = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        final int[][] array = this.array;
+        final int lastOuter = endOuterExclusive - 1;
+        int outer = startOuterInclusive;
+        int inner = startInnerInclusive;
+        for (; outer <= lastOuter; outer++) {
+            final int[] row = array[outer];
+            final int rowEnd = outer == lastOuter ? endInnerExclusive : innerLength;
+            for (; inner < rowEnd; inner++) {
+                action.accept(row[inner]);
+            }
+            inner = 0;
+        }
+        startOuterInclusive = endOuterExclusive;
+        startInnerInclusive = 0;
+    }
+
+    @Override
+    public void forEachRemainingChunk(IntChunkConsumer action) {
+        final int lastOuter = endOuterExclusive - 1;
+        int outer = startOuterInclusive;
+        int inner = startInnerInclusive;
+        startOuterInclusive = endOuterExclusive;
+        startInnerInclusive = 0;
+        for (; outer <= lastOuter; outer++) {
+            final int rowEnd = outer == lastOuter ? endInnerExclusive : innerLength;
+            if (inner < rowEnd) {
+                action.accept(array[outer], inner, rowEnd);
+            }
+            inner = 0;
+        }
     }
 }
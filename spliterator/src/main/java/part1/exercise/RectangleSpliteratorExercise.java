@@ -1,6 +1,7 @@
 package part1.exercise;
 
 import org.openjdk.jmh.annotations.*;
+import part1.example.ChunkedInts;
 
 import java.util.Arrays;
 import java.util.concurrent.ThreadLocalRandom;
@@ -15,16 +16,18 @@ import java.util.stream.StreamSupport;
 @State(Scope.Thread)
 public class RectangleSpliteratorExercise {
 
-    @Param({"100"})
-    public int outerLength;
-
-    @Param({"100"})
-    public int innerLength;
+    // outerLength x innerLength
+    @Param({"100x100", "2x10000000", "10000000x2", "4000x4000"})
+    public String shape;
 
     public int[][] array;
 
     @Setup
     public void setup() {
+        final String[] dimensions = shape.split("x");
+        final int outerLength = Integer.parseInt(dimensions[0]);
+        final int innerLength = Integer.parseInt(dimensions[1]);
+
         array = new int[outerLength][];
 
         for (int i = 0; i < array.length; i++) {
@@ -70,4 +73,22 @@ public class RectangleSpliteratorExercise {
                 .asLongStream()
                 .sum();
     }
+
+    @Benchmark
+    public long rectangle_chunked_seq() {
+        final boolean parallel = false;
+        return ChunkedInts.sum(new RectangleSpliterator(array), parallel);
+    }
+
+    @Benchmark
+    public long rectangle_chunked_par() {
+        final boolean parallel = true;
+        return ChunkedInts.sum(new RectangleSpliterator(array), parallel);
+    }
+
+    @Benchmark
+    public long[] rectangle_histogram_par() {
+        final boolean parallel = true;
+        return ChunkedInts.histogram(new RectangleSpliterator(array), Integer.MIN_VALUE, 1 << 24, 256, parallel);
+    }
 }
@@ -0,0 +1,243 @@
+package part1;
+
+import part1.example.ChunkedIntSpliterator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Splits a spliterator into a random tree, traverses the leaves with a random mix
+ * of {@code tryAdvance} and {@code forEachRemaining} and checks the spliterator contract on the way.
+ * Primitive spliterators are traversed through their boxing {@code Consumer} adapters,
+ * leaves of a {@link ChunkedIntSpliterator} are also finished with {@code forEachRemainingChunk}.
+ */
+public class SpliteratorHarness {
+
+    private final Random random;
+    private final int maxDepth;
+
+    public SpliteratorHarness(long seed, int maxDepth) {
+        this.random = new Random(seed);
+        this.maxDepth = maxDepth;
+    }
+
+    public SplitReport checkFinite(Supplier<? extends Spliterator.OfInt> factory, int[] expected, int rounds) {
+        return checkFinite(factory, IntStream.of(expected).boxed().collect(toList()), rounds);
+    }
+
+    /**
+     * Checks that a finite spliterator covers exactly {@code expected} (in order if it is ORDERED)
+     * for several random split trees and returns balance statistics over all of them.
+     */
+    public SplitReport checkFinite(Supplier<? extends Spliterator<?>> factory, List<?> expected, int rounds) {
+        final SplitReport report = new SplitReport();
+        for (int round = 0; round < rounds; round++) {
+            final Spliterator<?> spliterator = factory.get();
+            final int characteristics = spliterator.characteristics();
+            if (spliterator.hasCharacteristics(Spliterator.SIZED)) {
+                assertEquals("root size", expected.size(), spliterator.estimateSize());
+            }
+
+            final List<Object> actual = new ArrayList<>();
+            traverse(spliterator, characteristics, 0, actual, report, false);
+
+            assertEquals("element count", expected.size(), actual.size());
+            if (spliterator.hasCharacteristics(Spliterator.ORDERED)) {
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals("element " + i, expected.get(i), actual.get(i));
+                }
+            } else {
+                assertEquals("elements", counts(expected), counts(actual));
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Checks that the chunks of every leaf of random split trees, concatenated, equal
+     * the elements of an unsplit spliterator traversed with {@code forEachRemaining}.
+     */
+    public SplitReport checkChunks(Supplier<? extends ChunkedIntSpliterator> factory, int rounds) {
+        final List<Object> expected = new ArrayList<>();
+        factory.get().forEachRemaining((int value) -> expected.add(value));
+
+        final SplitReport report = new SplitReport();
+        for (int round = 0; round < rounds; round++) {
+            final ChunkedIntSpliterator spliterator = factory.get();
+            final List<Object> actual = new ArrayList<>();
+            traverse(spliterator, spliterator.characteristics(), 0, actual, report, true);
+            assertEquals("chunks vs forEachRemaining", expected, actual);
+        }
+        return report;
+    }
+
+    private static Map<Object, Integer> counts(List<?> elements) {
+        final Map<Object, Integer> res = new HashMap<>();
+        for (Object element : elements) {
+            res.merge(element, 1, Integer::sum);
+        }
+        return res;
+    }
+
+    /**
+     * Checks a finite spliterator whose elements aren't known upfront and returns
+     * the elements it produced for one random split tree.
+     */
+    public List<Object> checkSized(Spliterator<?> spliterator, long expectedSize, SplitReport report) {
+        assertTrue("SIZED", spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals("root size", expectedSize, spliterator.estimateSize());
+
+        final List<Object> actual = new ArrayList<>();
+        traverse(spliterator, spliterator.characteristics(), 0, actual, report, false);
+        assertEquals("element count", expectedSize, actual.size());
+        return actual;
+    }
+
+    /**
+     * Checks an infinite spliterator: split parts must not grow and every leaf must keep producing elements.
+     */
+    public SplitReport checkInfinite(Supplier<? extends Spliterator<?>> factory, int takeFromLeaf) {
+        final SplitReport report = new SplitReport();
+        checkInfinite(factory.get(), 0, takeFromLeaf, report);
+        return report;
+    }
+
+    private void checkInfinite(Spliterator<?> spliterator, int depth, int takeFromLeaf, SplitReport report) {
+        final long size = spliterator.estimateSize();
+        if (depth < maxDepth && random.nextInt(4) != 0) {
+            final Spliterator<?> prefix = spliterator.trySplit();
+            if (prefix != null) {
+                assertTrue("prefix estimate", prefix.estimateSize() <= size);
+                assertTrue("suffix estimate", spliterator.estimateSize() <= size);
+                report.split(depth, prefix.estimateSize(), spliterator.estimateSize());
+                checkInfinite(prefix, depth + 1, takeFromLeaf, report);
+                checkInfinite(spliterator, depth + 1, takeFromLeaf, report);
+                return;
+            }
+        }
+        for (int i = 0; i < takeFromLeaf; i++) {
+            assertTrue("infinite source ended", spliterator.tryAdvance(value -> {
+            }));
+        }
+        report.leaf(depth, takeFromLeaf);
+    }
+
+    private void traverse(Spliterator<?> spliterator, int rootCharacteristics, int depth,
+                          List<Object> out, SplitReport report, boolean chunks) {
+        // parts of a spliterator of unknown size may become SIZED, everything else is inherited
+        final int sizing = Spliterator.SIZED | Spliterator.SUBSIZED;
+        assertEquals("characteristics", rootCharacteristics & ~sizing, spliterator.characteristics() & ~sizing);
+        final boolean sized = spliterator.hasCharacteristics(Spliterator.SIZED);
+        final long size = spliterator.estimateSize();
+
+        if (depth < maxDepth && random.nextInt(8) != 0) {
+            final Spliterator<?> prefix = spliterator.trySplit();
+            if (prefix != null) {
+                if (spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+                    assertTrue("SUBSIZED prefix is SIZED", prefix.hasCharacteristics(Spliterator.SIZED));
+                    assertEquals("SUBSIZED sizes add up", size, prefix.estimateSize() + spliterator.estimateSize());
+                }
+                report.split(depth, prefix.estimateSize(), spliterator.estimateSize());
+                traverse(prefix, rootCharacteristics, depth + 1, out, report, chunks);
+                traverse(spliterator, rootCharacteristics, depth + 1, out, report, chunks);
+                return;
+            }
+            if (sized) {
+                assertTrue("failed to split " + size + " elements", size < 2);
+            }
+        }
+
+        final int before = out.size();
+        // partly advance one by one, then finish in bulk
+        final int single = random.nextInt(4);
+        for (int i = 0; i < single; i++) {
+            if (!spliterator.tryAdvance(out::add)) {
+                break;
+            }
+            if (sized) {
+                assertEquals("size after tryAdvance", size - (out.size() - before), spliterator.estimateSize());
+            }
+        }
+        if (spliterator instanceof ChunkedIntSpliterator && (chunks || random.nextBoolean())) {
+            ((ChunkedIntSpliterator) spliterator).forEachRemainingChunk((array, from, to) -> {
+                assertTrue("chunk [" + from + ", " + to + ") of " + array.length,
+                        0 <= from && from <= to && to <= array.length);
+                for (int i = from; i < to; i++) {
+                    out.add(array[i]);
+                }
+            });
+        } else {
+            spliterator.forEachRemaining(out::add);
+        }
+        assertFalse("tryAdvance after the end", spliterator.tryAdvance(out::add));
+
+        final int traversed = out.size() - before;
+        if (sized) {
+            assertEquals("traversed vs estimated", size, traversed);
+            assertEquals("size after traversal", 0, spliterator.estimateSize());
+        }
+        report.leaf(depth, traversed);
+    }
+
+    public static class SplitReport {
+        private long splits;
+        private double worstBalance = 1.0;
+        private double balanceTotal;
+        private int maxDepth;
+        private long leaves;
+        private long minLeaf = Long.MAX_VALUE;
+        private long maxLeaf;
+
+        private void split(int depth, long prefixSize, long suffixSize) {
+            final long total = prefixSize + suffixSize;
+            if (total > 0) {
+                final double balance = (double) Math.min(prefixSize, suffixSize) / total * 2;
+                splits += 1;
+                balanceTotal += balance;
+                worstBalance = Math.min(worstBalance, balance);
+            }
+            maxDepth = Math.max(maxDepth, depth + 1);
+        }
+
+        private void leaf(int depth, long size) {
+            leaves += 1;
+            minLeaf = Math.min(minLeaf, size);
+            maxLeaf = Math.max(maxLeaf, size);
+            maxDepth = Math.max(maxDepth, depth);
+        }
+
+        /**
+         * Smaller part to half of the whole for the worst split: 1 is a perfect halving, 0 an empty part.
+         */
+        public double getWorstBalance() {
+            return worstBalance;
+        }
+
+        public double getAverageBalance() {
+            return splits == 0 ? 1.0 : balanceTotal / splits;
+        }
+
+        public long getSplits() {
+            return splits;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("splits=%d, balance: worst=%.3f avg=%.3f, depth=%d, leaves=%d [%d..%d]",
+                    splits, getWorstBalance(), getAverageBalance(), maxDepth, leaves,
+                    leaves == 0 ? 0 : minLeaf, maxLeaf);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package part1.example;
+
+import org.junit.Test;
+import part1.exercise.JaggedIntSpliterator;
+import part1.exercise.RectangleSpliterator;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ChunkedIntsTest {
+
+    @Test
+    public void intArray() {
+        for (int length : new int[]{0, 1, 2, 1000, 100_003}) {
+            final int[] array = new Random(length).ints(length).toArray();
+            check(() -> new ArrayExample.IntArraySpliterator(array), array);
+        }
+    }
+
+    @Test
+    public void rectangle() {
+        // chunks of short rows, of the middle of single rows and of partial first and last rows
+        for (int[] shape : new int[][]{{0, 0}, {3, 0}, {1, 1}, {1, 10_000}, {10_000, 1}, {2, 5001}, {37, 41}, {500, 300}}) {
+            final Random random = new Random(shape[0] * 31 + shape[1]);
+            final int[][] array = new int[shape[0]][];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.ints(shape[1], -1000, 1000).toArray();
+            }
+            check(() -> new RectangleSpliterator(array), flatten(array));
+        }
+    }
+
+    @Test
+    public void jagged() {
+        final Random random = new Random(2);
+        for (int rows : new int[]{0, 1, 5, 100, 1000}) {
+            final int[][] array = new int[rows][];
+            for (int i = 0; i < rows; i++) {
+                array[i] = random.ints(random.nextInt(4) == 0 ? 0 : random.nextInt(2000), -1000, 1000).toArray();
+            }
+            check(() -> new JaggedIntSpliterator(array), flatten(array));
+        }
+    }
+
+    @Test
+    public void plainSpliterator() {
+        final int[] array = new Random(3).ints(10_000).toArray();
+        check(() -> IntStream.of(array).spliterator(), array);
+    }
+
+    private static void check(Supplier<? extends Spliterator.OfInt> factory, int[] expected) {
+        final IntSummaryStatistics statistics = IntStream.of(expected).summaryStatistics();
+        final OptionalInt min = statistics.getCount() == 0 ? OptionalInt.empty() : OptionalInt.of(statistics.getMin());
+        final OptionalInt max = statistics.getCount() == 0 ? OptionalInt.empty() : OptionalInt.of(statistics.getMax());
+
+        final long[] histogram = new long[20];
+        IntStream.of(expected)
+                .filter(value -> value >= -500 && value < 1500)
+                .forEach(value -> histogram[(value + 500) / 100]++);
+
+        for (boolean parallel : new boolean[]{false, true}) {
+            final String message = expected.length + " elements, parallel=" + parallel;
+            assertEquals(message, statistics.getSum(), ChunkedInts.sum(factory.get(), parallel));
+            assertEquals(message, min, ChunkedInts.min(factory.get(), parallel));
+            assertEquals(message, max, ChunkedInts.max(factory.get(), parallel));
+            assertArrayEquals(message, histogram, ChunkedInts.histogram(factory.get(), -500, 100, 20, parallel));
+        }
+    }
+
+    private static int[] flatten(int[][] array) {
+        return Arrays.stream(array).flatMapToInt(Arrays::stream).toArray();
+    }
+}
@@ -0,0 +1,95 @@
+package part1.example;
+
+import org.junit.Test;
+import part1.exercise.RectangleSpliterator;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InstrumentedIntSpliteratorTest {
+
+    @Test
+    public void recordsEveryElementOnce() {
+        final int[][] array = new int[1000][1000];
+        for (int[] row : array) {
+            Arrays.fill(row, 1);
+        }
+        final SplitRecorder recorder = new SplitRecorder();
+
+        recorder.start();
+        final long sum = StreamSupport.intStream(recorder.wrap(new RectangleSpliterator(array)), true)
+                .asLongStream()
+                .sum();
+        recorder.stop();
+
+        final SplitRecorder.Report report = recorder.report();
+        assertEquals(1_000_000, sum);
+        assertEquals(1_000_000, report.getTotalElements());
+        assertTrue(report.toString(), report.getLeaves() > 0);
+        assertEquals(report.getTotalElements(),
+                report.getElementsPerThread().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void recordsTryAdvanceTraversal() {
+        final int[] array = new Random(0).ints(100).toArray();
+        final SplitRecorder recorder = new SplitRecorder();
+
+        final InstrumentedIntSpliterator spliterator = recorder.wrap(new ArrayExample.IntArraySpliterator(array));
+        while (spliterator.tryAdvance((int value) -> {
+        })) {
+        }
+
+        assertEquals(1, recorder.report().getLeaves());
+        assertEquals(100, recorder.report().getTotalElements());
+    }
+
+    @Test
+    public void countsUnsizedLeaves() {
+        final SplitRecorder recorder = new SplitRecorder();
+
+        final long count = StreamSupport.intStream(
+                recorder.wrap(IntStream.iterate(0, i -> i + 1).limit(10_000).spliterator()), false)
+                .count();
+
+        assertEquals(10_000, count);
+        assertEquals(10_000, recorder.report().getTotalElements());
+    }
+
+    @Test
+    public void bucketsLeafSizesAndResets() {
+        final int[] array = new int[1000];
+        final SplitRecorder recorder = new SplitRecorder();
+
+        final InstrumentedIntSpliterator spliterator = recorder.wrap(new ArrayExample.IntArraySpliterator(array));
+        final Spliterator.OfInt prefix = spliterator.trySplit();
+        prefix.forEachRemaining((int value) -> {
+        });
+        spliterator.forEachRemaining((int value) -> {
+        });
+
+        final SplitRecorder.Report report = recorder.report();
+        final long[] buckets = report.getLeafSizeBuckets();
+        assertEquals(2, report.getLeaves());
+        assertEquals(1, report.getMaxDepth());
+        // both halves of 500 elements fall into [256, 512)
+        assertEquals(2, buckets[9]);
+        assertEquals(2, Arrays.stream(buckets).sum());
+
+        recorder.reset();
+        assertEquals(0, recorder.report().getLeaves());
+        assertEquals(0, recorder.report().getTotalElements());
+        assertEquals(0, Arrays.stream(recorder.report().getLeafSizeBuckets()).sum());
+
+        recorder.wrap(new ArrayExample.IntArraySpliterator(array)).forEachRemaining((int value) -> {
+        });
+        assertEquals(1, recorder.report().getLeaves());
+        assertEquals(1000, recorder.report().getTotalElements());
+    }
+}
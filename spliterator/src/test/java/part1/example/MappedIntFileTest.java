@@ -0,0 +1,61 @@
+package part1.example;
+
+import org.junit.Test;
+import part1.SpliteratorHarness;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MappedIntFileTest {
+
+    private static final int[] LENGTHS = {0, 1, 2, 15, 16, 17, 1000, 100_003};
+
+    @Test
+    public void splitsAcrossSegments() throws IOException {
+        for (int length : LENGTHS) {
+            for (int trailingBytes = 0; trailingBytes < Integer.BYTES; trailingBytes++) {
+                final int[] ints = new Random(length).ints(length).toArray();
+                final Path file = write(ints, trailingBytes);
+                try {
+                    // 16 ints per segment, so almost every split crosses a segment boundary
+                    for (long segmentBytes : new long[]{64, 68, MappedIntFile.DEFAULT_SEGMENT_BYTES}) {
+                        final MappedIntFile mapped = MappedIntFile.map(file, segmentBytes);
+                        assertEquals("size", length, mapped.size());
+
+                        final SpliteratorHarness.SplitReport report = new SpliteratorHarness(length, 20)
+                                .checkFinite(mapped::spliterator, ints, 5);
+                        assertTrue(report.toString(), report.getWorstBalance() > 0);
+                        assertEquals(length, mapped.stream(true).count());
+                    }
+                } finally {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void segmentSmallerThanInt() throws IOException {
+        // checked before the file is opened
+        MappedIntFile.map(Paths.get("missing.bin"), 3);
+    }
+
+    private static Path write(int[] ints, int trailingBytes) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(ints.length * Integer.BYTES + trailingBytes)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (int value : ints) {
+            buffer.putInt(value);
+        }
+        final Path file = Files.createTempFile("ints", ".bin");
+        Files.write(file, buffer.array());
+        return file;
+    }
+}
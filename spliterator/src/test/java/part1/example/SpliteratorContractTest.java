@@ -0,0 +1,118 @@
+package part1.example;
+
+import org.junit.Test;
+import part1.SpliteratorHarness;
+import part1.SpliteratorHarness.SplitReport;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SpliteratorContractTest {
+
+    private static final int[] LENGTHS = {0, 1, 2, 3, 17, 1000, 100_003};
+
+    @Test
+    public void intArraySpliterator() {
+        for (int length : LENGTHS) {
+            final int[] array = new Random(length).ints(length).toArray();
+            final SplitReport report = new SpliteratorHarness(length, 20)
+                    .checkFinite(() -> new ArrayExample.IntArraySpliterator(array), array, 10);
+
+            assertTrue(length + " elements: " + report, report.getWorstBalance() >= 0.6);
+
+            new SpliteratorHarness(length, 20).checkChunks(() -> new ArrayExample.IntArraySpliterator(array), 10);
+        }
+    }
+
+    @Test
+    public void longArraySpliterator() {
+        for (int length : LENGTHS) {
+            final long[] array = new Random(length).longs(length).toArray();
+            final SplitReport report = new SpliteratorHarness(length, 20)
+                    .checkFinite(() -> new ArrayExample.LongArraySpliterator(array),
+                            LongStream.of(array).boxed().collect(toList()), 10);
+
+            assertTrue(report.toString(), report.getWorstBalance() >= 0.6);
+        }
+    }
+
+    @Test
+    public void doubleArraySpliterator() {
+        for (int length : LENGTHS) {
+            final double[] array = new Random(length).doubles(length).toArray();
+            final SplitReport report = new SpliteratorHarness(length, 20)
+                    .checkFinite(() -> new ArrayExample.DoubleArraySpliterator(array),
+                            DoubleStream.of(array).boxed().collect(toList()), 10);
+
+            assertTrue(report.toString(), report.getWorstBalance() >= 0.6);
+        }
+    }
+
+    @Test
+    public void intBufferSpliterator() {
+        for (int length : LENGTHS) {
+            final int[] array = new Random(length).ints(length).toArray();
+            final IntBuffer buffer = ByteBuffer.allocateDirect(length * Integer.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+            buffer.put(array);
+            buffer.flip();
+
+            final SplitReport report = new SpliteratorHarness(length, 20)
+                    .checkFinite(() -> new IntBufferSpliterator(buffer), array, 10);
+
+            assertTrue(report.toString(), report.getWorstBalance() >= 0.6);
+            assertEquals("buffer position", 0, buffer.position());
+        }
+    }
+
+    @Test
+    public void intIteratorSpliterator() {
+        for (int length : LENGTHS) {
+            final int[] array = new Random(length).ints(length).toArray();
+            new SpliteratorHarness(length, 20)
+                    .checkFinite(() -> new IntIteratorSpliterator(IntStream.of(array).iterator(), Spliterator.ORDERED), array, 10);
+        }
+    }
+
+    @Test
+    public void randomIntegerSpliterator() {
+        final RandomIntegers randomIntegers = new RandomIntegers();
+        randomIntegers.consume = 0;
+
+        final SplitReport report = new SpliteratorHarness(0, 30)
+                .checkInfinite(() -> randomIntegers.new RandomIntegerSpliterator(), 100);
+
+        assertTrue(report.toString(), report.getSplits() > 0);
+    }
+
+    @Test
+    public void sizedRandomIntSpliteratorIsReproducible() {
+        final RandomIntegers randomIntegers = new RandomIntegers();
+        randomIntegers.consume = 0;
+
+        for (int size : LENGTHS) {
+            final SplitReport report = new SplitReport();
+            final List<Object> first = new SpliteratorHarness(size, 20)
+                    .checkSized(randomIntegers.new SizedRandomIntSpliterator(new SplittableRandom(42), size), size, report);
+            final List<Object> second = new SpliteratorHarness(size, 20)
+                    .checkSized(randomIntegers.new SizedRandomIntSpliterator(new SplittableRandom(42), size), size, report);
+
+            assertEquals("same seed and split tree", first, second);
+            assertTrue(report.toString(), report.getWorstBalance() >= 0.6);
+        }
+    }
+}
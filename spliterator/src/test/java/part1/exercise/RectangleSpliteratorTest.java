@@ -0,0 +1,55 @@
+package part1.exercise;
+
+import org.junit.Test;
+import part1.SpliteratorHarness;
+import part1.SpliteratorHarness.SplitReport;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+public class RectangleSpliteratorTest {
+
+    private static final int[][] SHAPES = {{0, 0}, {5, 0}, {1, 1}, {1, 1000}, {1000, 1}, {2, 5001}, {5001, 2}, {3, 3}, {37, 41}};
+
+    @Test
+    public void rectangleSpliterator() {
+        for (int[] shape : SHAPES) {
+            final Random random = new Random(shape[0] * 31 + shape[1]);
+            final int[][] array = new int[shape[0]][];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.ints(shape[1]).toArray();
+            }
+
+            final SplitReport report = new SpliteratorHarness(shape[0], 24)
+                    .checkFinite(() -> new RectangleSpliterator(array), flatten(array), 10);
+            new SpliteratorHarness(shape[1], 24).checkChunks(() -> new RectangleSpliterator(array), 10);
+
+            assertTrue(shape[0] + "x" + shape[1] + ": " + report, report.getWorstBalance() >= 0.6);
+        }
+    }
+
+    @Test
+    public void jaggedIntSpliterator() {
+        final Random random = new Random(1);
+        for (int rows : new int[]{0, 1, 2, 10, 100}) {
+            final int[][] array = new int[rows][];
+            for (int i = 0; i < array.length; i++) {
+                // mostly empty or short rows and a few long ones
+                final int length = random.nextInt(3) == 0 ? 0 : (int) Math.pow(10, random.nextInt(5));
+                array[i] = random.ints(length).toArray();
+            }
+
+            final SplitReport report = new SpliteratorHarness(rows, 24)
+                    .checkFinite(() -> new JaggedIntSpliterator(array), flatten(array), 10);
+            new SpliteratorHarness(rows + 1, 24).checkChunks(() -> new JaggedIntSpliterator(array), 10);
+
+            assertTrue(rows + " rows: " + report, report.getWorstBalance() >= 0.6);
+        }
+    }
+
+    private static int[] flatten(int[][] array) {
+        return Arrays.stream(array).flatMapToInt(Arrays::stream).toArray();
+    }
+}
@@ -1,21 +1,30 @@
 package data;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.Objects;
 
-public class Employee {
+/**
+ * Immutable employee. The job history is copied once on construction and shared read-only afterwards.
+ */
+public class Employee implements Serializable {
     private final Person person;
     private final List<JobHistoryEntry> jobHistory;
+    // cached hash code, 0 until computed
+    private transient int hash;
 
     public Employee(String name, String surname, int age, List<JobHistoryEntry> jobHistory) {
         this.person = new Person(name, surname, age);
-        this.jobHistory = jobHistory;
+        this.jobHistory = Collections.unmodifiableList(new ArrayList<>(jobHistory));
     }
 
     public Employee(Person person, List<JobHistoryEntry> jobHistory) {
         this.person = person;
-        this.jobHistory = jobHistory;
+        this.jobHistory = Collections.unmodifiableList(new ArrayList<>(jobHistory));
     }
 
     public Employee withPerson(Person p) {
@@ -30,8 +39,21 @@ public class Employee {
         return person;
     }
 
+    /**
+     * @return unmodifiable view of the job history, no copy is made
+     */
     public List<JobHistoryEntry> getJobHistory() {
-        return new ArrayList<>(jobHistory);
+        return jobHistory;
+    }
+
+    public Stream<JobHistoryEntry> streamJobHistory() {
+        return jobHistory.stream();
+    }
+
+    public void forEachJobHistory(Consumer<? super JobHistoryEntry> action) {
+        for (int i = 0, size = jobHistory.size(); i < size; i++) {
+            action.accept(jobHistory.get(i));
+        }
     }
 
     @Override
@@ -47,11 +69,19 @@ public class Employee {
 
         Employee employee = (Employee) o;
 
-        return Objects.equals(person, employee.person) && Objects.equals(jobHistory, employee.jobHistory);
+        return hashCode() == employee.hashCode()
+                && Objects.equals(person, employee.person)
+                && Objects.equals(jobHistory, employee.jobHistory);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(person, jobHistory);
+        int h = hash;
+        if (h == 0) {
+            // same value as Objects.hash(person, jobHistory), the history is hashed only once
+            h = 31 * (31 + Objects.hashCode(person)) + jobHistory.hashCode();
+            hash = h;
+        }
+        return h;
     }
 }
@@ -0,0 +1,427 @@
+package data;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Binary format of employee snapshots.
+ *
+ * <pre>
+ * snapshot := MAGIC:int VERSION:int record* END:byte
+ * record   := tag:byte length:int payload[length]
+ *
+ * EMPLOYER, POSITION payload := code:int string
+ * EMPLOYEE payload           := person historyLength:int (duration:int employer:int position:int)*
+ * person                     := age:int firstName:string lastName:string
+ * string                     := length:short utf8[length]    (length -1 stands for null)
+ * </pre>
+ *
+ * Employer and position codes are local to a snapshot and dense; every code is defined by an
+ * EMPLOYER or POSITION record before its first use, {@code -1} stands for null.
+ * Readers skip records with unknown tags and bytes past the end of known payloads; a payload
+ * shorter than its contents is an error. All numbers are big-endian.
+ */
+public final class EmployeeCodec {
+    public static final int MAGIC = 0x454d504c;
+    public static final int VERSION = 1;
+
+    public static final byte END = 0;
+    public static final byte EMPLOYEE = 1;
+    public static final byte EMPLOYER = 2;
+    public static final byte POSITION = 3;
+
+    public static final int ENTRY_BYTES = 3 * Integer.BYTES;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private EmployeeCodec() {
+    }
+
+    public static Writer writer(DataOutput out) throws IOException {
+        return new Writer(out);
+    }
+
+    /**
+     * Buffered writer to {@code channel}, {@link Writer#finish()} flushes it but leaves the channel open.
+     */
+    public static Writer writer(WritableByteChannel channel) throws IOException {
+        return new Writer(new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)));
+    }
+
+    public static Reader reader(DataInput in) throws IOException {
+        return new Reader(in);
+    }
+
+    public static Reader reader(ReadableByteChannel channel) throws IOException {
+        return new Reader(new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE)));
+    }
+
+    public static void writePerson(DataOutput out, Person person) throws IOException {
+        out.writeInt(person.getAge());
+        writeString(out, person.getFirstName());
+        writeString(out, person.getLastName());
+    }
+
+    public static Person readPerson(DataInput in) throws IOException {
+        final int age = in.readInt();
+        final String firstName = readString(in);
+        final String lastName = readString(in);
+        return new Person(firstName, lastName, age);
+    }
+
+    /**
+     * Reads and validates {@code MAGIC} and {@code VERSION}.
+     */
+    static void readHeader(DataInput in) throws IOException {
+        final int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new IOException("not an employee snapshot: " + Integer.toHexString(magic));
+        }
+        final int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("unsupported snapshot version " + version);
+        }
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeShort(-1);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("string of " + bytes.length + " bytes is too long");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        final int length = in.readShort();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0) {
+            throw new IOException("negative string length " + length);
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes employees one by one. Snapshot codes are assigned in order of first use.
+     */
+    public static final class Writer {
+        private final DataOutput out;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream payload = new DataOutputStream(bytes);
+        private final OutputStream target;
+        // global dictionary code -> snapshot code + 1, 0 if not defined yet
+        private int[] employerCodes = new int[16];
+        private int[] positionCodes = new int[16];
+        private int employers;
+        private int positions;
+        private boolean finished;
+
+        private Writer(DataOutput out) throws IOException {
+            this.out = out;
+            this.target = out instanceof OutputStream ? (OutputStream) out : new OutputAdapter(out);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+        }
+
+        public Writer write(Employee employee) throws IOException {
+            if (finished) {
+                throw new IllegalStateException("snapshot is finished");
+            }
+            final List<JobHistoryEntry> history = employee.getJobHistory();
+            for (JobHistoryEntry entry : history) {
+                define(entry.getEmployerCode(), EMPLOYER);
+                define(entry.getPositionCode(), POSITION);
+            }
+
+            bytes.reset();
+            writePerson(payload, employee.getPerson());
+            payload.writeInt(history.size());
+            for (JobHistoryEntry entry : history) {
+                payload.writeInt(entry.getDuration());
+                payload.writeInt(localCode(employerCodes, entry.getEmployerCode()));
+                payload.writeInt(localCode(positionCodes, entry.getPositionCode()));
+            }
+            writeRecord(EMPLOYEE);
+            return this;
+        }
+
+        public Writer writeAll(Iterable<? extends Employee> employees) throws IOException {
+            for (Employee employee : employees) {
+                write(employee);
+            }
+            return this;
+        }
+
+        /**
+         * Writes the end of the snapshot and flushes the output if it is {@link Flushable}.
+         */
+        public void finish() throws IOException {
+            if (!finished) {
+                finished = true;
+                out.writeByte(END);
+                if (out instanceof Flushable) {
+                    ((Flushable) out).flush();
+                }
+            }
+        }
+
+        private void define(int code, byte tag) throws IOException {
+            if (code == StringDictionary.NULL_CODE) {
+                return;
+            }
+            final boolean employer = tag == EMPLOYER;
+            int[] codes = employer ? employerCodes : positionCodes;
+            if (code >= codes.length) {
+                codes = Arrays.copyOf(codes, Math.max(code + 1, codes.length * 2));
+                if (employer) {
+                    employerCodes = codes;
+                } else {
+                    positionCodes = codes;
+                }
+            }
+            if (codes[code] != 0) {
+                return;
+            }
+
+            final int local = employer ? employers++ : positions++;
+            codes[code] = local + 1;
+            bytes.reset();
+            payload.writeInt(local);
+            writeString(payload, (employer ? StringDictionary.EMPLOYERS : StringDictionary.POSITIONS).decode(code));
+            writeRecord(tag);
+        }
+
+        private static int localCode(int[] codes, int code) {
+            return code == StringDictionary.NULL_CODE ? StringDictionary.NULL_CODE : codes[code] - 1;
+        }
+
+        private void writeRecord(byte tag) throws IOException {
+            out.writeByte(tag);
+            out.writeInt(bytes.size());
+            bytes.writeTo(target);
+        }
+    }
+
+    /**
+     * Reads employees one by one, {@link #read()} returns {@code null} at the end of the snapshot.
+     */
+    public static final class Reader {
+        private final DataInput in;
+        private final CodeTable employers = new CodeTable();
+        private final CodeTable positions = new CodeTable();
+        private final RecordBuffer record = new RecordBuffer();
+        private byte[] skipBuffer;
+        private boolean finished;
+
+        private Reader(DataInput in) throws IOException {
+            this.in = in;
+            readHeader(in);
+        }
+
+        public Employee read() throws IOException {
+            while (!finished) {
+                final byte tag = in.readByte();
+                if (tag == END) {
+                    finished = true;
+                    break;
+                }
+                final int length = in.readInt();
+                if (length < 0) {
+                    throw new IOException("negative length " + length + " of record " + tag);
+                }
+                if (tag != EMPLOYEE && tag != EMPLOYER && tag != POSITION) {
+                    skip(length);
+                    continue;
+                }
+                final DataInput payload = record.fill(in, length);
+                try {
+                    switch (tag) {
+                        case EMPLOYEE:
+                            return readEmployee(payload);
+                        case EMPLOYER:
+                            readDefinition(payload, employers, StringDictionary.EMPLOYERS);
+                            break;
+                        case POSITION:
+                            readDefinition(payload, positions, StringDictionary.POSITIONS);
+                            break;
+                    }
+                } catch (EOFException e) {
+                    throw overrun(tag, length, e);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Lazy stream of the remaining employees, I/O errors are rethrown as {@link UncheckedIOException}.
+         */
+        public Stream<Employee> stream() {
+            final Spliterator<Employee> spliterator = new Spliterators.AbstractSpliterator<Employee>(
+                    Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super Employee> action) {
+                    final Employee employee;
+                    try {
+                        employee = read();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    if (employee == null) {
+                        return false;
+                    }
+                    action.accept(employee);
+                    return true;
+                }
+            };
+            return StreamSupport.stream(spliterator, false);
+        }
+
+        private Employee readEmployee(DataInput payload) throws IOException {
+            final Person person = readPerson(payload);
+            final int historyLength = payload.readInt();
+            if (historyLength < 0 || historyLength > record.remaining() / ENTRY_BYTES) {
+                // don't allocate a history the record can't hold
+                throw new EOFException("history length " + historyLength);
+            }
+            final JobHistoryEntry[] history = new JobHistoryEntry[historyLength];
+            for (int i = 0; i < history.length; i++) {
+                final int duration = payload.readInt();
+                final int employer = employers.get(payload.readInt());
+                final int position = positions.get(payload.readInt());
+                history[i] = new JobHistoryEntry(duration, position, employer);
+            }
+            return new Employee(person, Arrays.asList(history));
+        }
+
+        private void skip(int length) throws IOException {
+            if (skipBuffer == null) {
+                skipBuffer = new byte[4096];
+            }
+            while (length > 0) {
+                final int n = Math.min(length, skipBuffer.length);
+                in.readFully(skipBuffer, 0, n);
+                length -= n;
+            }
+        }
+    }
+
+    /**
+     * Reads the payload of an EMPLOYER or POSITION record.
+     */
+    static void readDefinition(DataInput payload, CodeTable codes, StringDictionary dictionary) throws IOException {
+        codes.define(payload.readInt(), dictionary.encode(readString(payload)));
+    }
+
+    static IOException overrun(byte tag, int length, EOFException cause) {
+        return new IOException("record " + tag + " overruns its length of " + length + " bytes", cause);
+    }
+
+    /**
+     * Reusable payload of the record being read. Known records are parsed from it, so a record can't be read
+     * past its length and whatever a newer writer appended to it is skipped.
+     */
+    static final class RecordBuffer extends ByteArrayInputStream {
+        private final DataInputStream data = new DataInputStream(this);
+
+        RecordBuffer() {
+            super(new byte[256]);
+        }
+
+        /**
+         * Reads the next {@code length} bytes of {@code in}. The buffer grows only with the bytes actually read,
+         * so a corrupt length ends with EOF, not a huge allocation.
+         *
+         * @return the payload, reading past its end throws {@link EOFException}
+         */
+        DataInput fill(DataInput in, int length) throws IOException {
+            int read = 0;
+            while (read < length) {
+                if (read == buf.length) {
+                    buf = Arrays.copyOf(buf, Math.min(length, 2 * read));
+                }
+                final int n = Math.min(length, buf.length) - read;
+                in.readFully(buf, read, n);
+                read += n;
+            }
+            pos = 0;
+            mark = 0;
+            count = length;
+            return data;
+        }
+
+        int remaining() {
+            return count - pos;
+        }
+    }
+
+    /**
+     * Snapshot code to global dictionary code mapping of a reader.
+     */
+    static final class CodeTable {
+        private int[] codes = new int[16];
+        private int size;
+
+        void define(int local, int global) throws IOException {
+            if (local != size) {
+                throw new IOException("code " + local + " defined out of order, expected " + size);
+            }
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            codes[size++] = global;
+        }
+
+        int get(int local) throws IOException {
+            if (local == StringDictionary.NULL_CODE) {
+                return StringDictionary.NULL_CODE;
+            }
+            if (local < 0 || local >= size) {
+                throw new IOException("undefined code " + local);
+            }
+            return codes[local];
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(codes, size);
+        }
+    }
+
+    /**
+     * Lets {@link ByteArrayOutputStream#writeTo} copy into a {@link DataOutput}.
+     */
+    private static class OutputAdapter extends OutputStream {
+        private final DataOutput out;
+
+        private OutputAdapter(DataOutput out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+    }
+}
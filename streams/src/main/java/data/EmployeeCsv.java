@@ -0,0 +1,335 @@
+package data;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Employees as UTF-8 lines of comma separated fields, one employee per line:
+ * <pre>
+ * firstName,lastName,age(,employer,position,duration)*
+ * </pre>
+ * There is no quoting, so fields must not contain commas or line breaks. Nulls are written as empty fields
+ * and empty fields are read as nulls.
+ *
+ * <p>{@link #load} reads the file in chunks cut at line boundaries and parses every chunk straight
+ * from its bytes: numbers are accumulated digit by digit and employers and positions are matched
+ * against the bytes of already known values, so only names become new strings.
+ * Chunks of a parallel stream are parsed on the fork/join pool.
+ */
+public final class EmployeeCsv {
+    public static final int DEFAULT_CHUNK_BYTES = 1 << 23;
+
+    private static final int SCAN_BYTES = 1 << 12;
+
+    private EmployeeCsv() {
+    }
+
+    public static void write(Path file, Iterable<? extends Employee> employees) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            write(out, employees);
+        }
+    }
+
+    public static void write(Writer out, Iterable<? extends Employee> employees) throws IOException {
+        final StringBuilder line = new StringBuilder();
+        for (Employee employee : employees) {
+            line.setLength(0);
+            final Person person = employee.getPerson();
+            append(line, person.getFirstName()).append(',');
+            append(line, person.getLastName()).append(',');
+            line.append(person.getAge());
+            employee.forEachJobHistory(j -> {
+                line.append(',');
+                append(line, j.getEmployer()).append(',');
+                append(line, j.getPosition()).append(',');
+                line.append(j.getDuration());
+            });
+            line.append('\n');
+            out.append(line);
+        }
+    }
+
+    private static StringBuilder append(StringBuilder line, String field) {
+        return field == null ? line : line.append(field);
+    }
+
+    /**
+     * Lazy ordered stream of the employees of {@code file}. The stream holds the file open
+     * and should be closed, e.g. in try-with-resources.
+     */
+    public static Stream<Employee> load(Path file, boolean parallel) throws IOException {
+        return load(file, parallel, DEFAULT_CHUNK_BYTES);
+    }
+
+    public static Stream<Employee> load(Path file, boolean parallel, int chunkBytes) throws IOException {
+        if (chunkBytes < 1) {
+            throw new IllegalArgumentException("chunkBytes: " + chunkBytes);
+        }
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            final long[] starts = chunkStarts(channel, chunkBytes);
+            final IntStream chunks = IntStream.range(0, starts.length - 1);
+            return (parallel ? chunks.parallel() : chunks)
+                    .mapToObj(i -> parseChunk(channel, starts[i], starts[i + 1]))
+                    .flatMap(List::stream)
+                    .onClose(() -> {
+                        try {
+                            channel.close();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return starts of the chunks followed by the file size, every chunk but the first one starts right after a line break
+     */
+    private static long[] chunkStarts(FileChannel channel, int chunkBytes) throws IOException {
+        final long size = channel.size();
+        final long[] starts = new long[(int) Math.min(Integer.MAX_VALUE - 1, (size + chunkBytes - 1) / chunkBytes) + 1];
+        final ByteBuffer scan = ByteBuffer.allocate(SCAN_BYTES);
+        int count = 0;
+        long next = 0;
+        while (next < size) {
+            starts[count++] = next;
+            next = lineStart(channel, scan, Math.max(next + 1, (long) count * chunkBytes), size);
+        }
+        starts[count++] = size;
+        return Arrays.copyOf(starts, count);
+    }
+
+    /**
+     * @return position right after the first line break at or after {@code from}, or {@code size}
+     */
+    private static long lineStart(FileChannel channel, ByteBuffer scan, long from, long size) throws IOException {
+        long position = from - 1;
+        while (position < size) {
+            scan.clear();
+            final int read = channel.read(scan, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static List<Employee> parseChunk(FileChannel channel, long from, long to) {
+        final byte[] bytes = new byte[(int) (to - from)];
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, from + buffer.position()) < 0) {
+                    throw new IOException("file is shorter than " + to + " bytes");
+                }
+            }
+            return new ChunkParser(bytes, from).parse();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class ChunkParser {
+        private final byte[] bytes;
+        private final long offset;
+        private final Vocabulary employers = new Vocabulary(StringDictionary.EMPLOYERS);
+        private final Vocabulary positions = new Vocabulary(StringDictionary.POSITIONS);
+        private int position;
+        private int lineEnd;
+
+        private ChunkParser(byte[] bytes, long offset) {
+            this.bytes = bytes;
+            this.offset = offset;
+        }
+
+        private List<Employee> parse() throws IOException {
+            final List<Employee> employees = new ArrayList<>();
+            final List<JobHistoryEntry> history = new ArrayList<>();
+            while (position < bytes.length) {
+                final int lineStart = position;
+                int end = lineStart;
+                while (end < bytes.length && bytes[end] != '\n') {
+                    end++;
+                }
+                position = end + 1;
+                lineEnd = end > lineStart && bytes[end - 1] == '\r' ? end - 1 : end;
+                if (lineEnd == lineStart) {
+                    continue;
+                }
+
+                int field = lineStart;
+                final int firstNameEnd = fieldEnd(field);
+                final String firstName = string(field, firstNameEnd);
+                field = next(firstNameEnd, lineStart);
+                final int lastNameEnd = fieldEnd(field);
+                final String lastName = string(field, lastNameEnd);
+                field = next(lastNameEnd, lineStart);
+                final int ageEnd = fieldEnd(field);
+                final int age = integer(field, ageEnd, lineStart);
+
+                history.clear();
+                field = ageEnd;
+                while (field < lineEnd) {
+                    field++;
+                    final int employerEnd = fieldEnd(field);
+                    final int employerCode = employers.code(bytes, field, employerEnd);
+                    field = next(employerEnd, lineStart);
+                    final int positionEnd = fieldEnd(field);
+                    final int positionCode = positions.code(bytes, field, positionEnd);
+                    field = next(positionEnd, lineStart);
+                    final int durationEnd = fieldEnd(field);
+                    history.add(new JobHistoryEntry(integer(field, durationEnd, lineStart), positionCode, employerCode));
+                    field = durationEnd;
+                }
+                employees.add(new Employee(new Person(firstName, lastName, age), history));
+            }
+            return employees;
+        }
+
+        private int fieldEnd(int from) {
+            int end = from;
+            while (end < lineEnd && bytes[end] != ',') {
+                end++;
+            }
+            return end;
+        }
+
+        private int next(int fieldEnd, int lineStart) throws IOException {
+            if (fieldEnd >= lineEnd) {
+                throw malformed(lineStart, "too few fields");
+            }
+            return fieldEnd + 1;
+        }
+
+        private String string(int from, int to) {
+            return from == to ? null : new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        }
+
+        private int integer(int from, int to, int lineStart) throws IOException {
+            if (from == to) {
+                throw malformed(lineStart, "empty number");
+            }
+            final boolean negative = bytes[from] == '-';
+            final int digitsFrom = negative ? from + 1 : from;
+            if (digitsFrom == to) {
+                throw malformed(lineStart, "sign without digits");
+            }
+            // accumulated as a negative number, so Integer.MIN_VALUE fits
+            int res = 0;
+            for (int i = digitsFrom; i < to; i++) {
+                final int digit = bytes[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw malformed(lineStart, "not a number");
+                }
+                if (res < (Integer.MIN_VALUE + digit) / 10) {
+                    throw malformed(lineStart, "number out of int range");
+                }
+                res = res * 10 - digit;
+            }
+            if (!negative && res == Integer.MIN_VALUE) {
+                throw malformed(lineStart, "number out of int range");
+            }
+            return negative ? res : -res;
+        }
+
+        private IOException malformed(int lineStart, String reason) {
+            return new IOException(reason + " in line at byte " + (offset + lineStart) + ": "
+                    + new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Codes of employers or positions seen in a chunk, looked up by their bytes in an open addressing table.
+     */
+    private static class Vocabulary {
+        private final StringDictionary dictionary;
+        private byte[][] keys = new byte[16][];
+        private int[] codes = new int[16];
+        private int size;
+
+        private Vocabulary(StringDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        private int code(byte[] bytes, int from, int to) {
+            final int hash = hash(bytes, from, to);
+            final int mask = keys.length - 1;
+            int slot = hash & mask;
+            for (byte[] key = keys[slot]; key != null; key = keys[slot]) {
+                if (key.length == to - from && matches(key, bytes, from)) {
+                    return codes[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            if (from == to) {
+                return StringDictionary.NULL_CODE;
+            }
+            final byte[] key = Arrays.copyOfRange(bytes, from, to);
+            final int code = dictionary.encode(new String(key, StandardCharsets.UTF_8));
+            keys[slot] = key;
+            codes[slot] = code;
+            if (++size * 2 > keys.length) {
+                rehash();
+            }
+            return code;
+        }
+
+        private void rehash() {
+            final byte[][] oldKeys = keys;
+            final int[] oldCodes = codes;
+            keys = new byte[oldKeys.length * 2][];
+            codes = new int[oldKeys.length * 2];
+            final int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                final byte[] key = oldKeys[i];
+                if (key != null) {
+                    int slot = hash(key, 0, key.length) & mask;
+                    while (keys[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = key;
+                    codes[slot] = oldCodes[i];
+                }
+            }
+        }
+
+        private static int hash(byte[] bytes, int from, int to) {
+            int h = 0;
+            for (int i = from; i < to; i++) {
+                h = 31 * h + bytes[i];
+            }
+            return h ^ (h >>> 16);
+        }
+
+        private static boolean matches(byte[] key, byte[] bytes, int from) {
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != bytes[from + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package data;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Inverted index of an {@link EmployeeTable}: employer, position and first employer
+ * to the set of employee numbers. Queries over several criteria become intersections, e.g.
+ * <pre>{@code
+ * index.hadPosition("dev").and(index.workedAt("epam")).stream()
+ *         .filter(i -> table.getFirstName(i).equals("John"))
+ * }</pre>
+ * Only codes known to the dictionaries when the index is built are indexed.
+ */
+public final class EmployeeIndex {
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    // indexed by StringDictionary codes
+    private final IdSet[] byEmployer;
+    private final IdSet[] byPosition;
+    private final IdSet[] byFirstEmployer;
+
+    private EmployeeIndex(IdSet[] byEmployer, IdSet[] byPosition, IdSet[] byFirstEmployer) {
+        this.byEmployer = byEmployer;
+        this.byPosition = byPosition;
+        this.byFirstEmployer = byFirstEmployer;
+    }
+
+    public static EmployeeIndex of(List<Employee> employees, boolean parallel) {
+        return of(EmployeeTable.of(employees), parallel);
+    }
+
+    /**
+     * Builds the index; a parallel build indexes blocks of employees independently and concatenates them.
+     */
+    public static EmployeeIndex of(EmployeeTable table, boolean parallel) {
+        final int employers = StringDictionary.EMPLOYERS.size();
+        final int positions = StringDictionary.POSITIONS.size();
+        final int blocks = (table.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+        final IntStream blockNumbers = IntStream.range(0, blocks);
+        final List<Block> parts = (parallel ? blockNumbers.parallel() : blockNumbers)
+                .mapToObj(b -> new Block(table, b * BLOCK_SIZE, Math.min(table.size(), (b + 1) * BLOCK_SIZE),
+                        employers, positions))
+                .collect(toList());
+
+        return new EmployeeIndex(
+                concat(parts, employers, b -> b.byEmployer),
+                concat(parts, positions, b -> b.byPosition),
+                concat(parts, employers, b -> b.byFirstEmployer));
+    }
+
+    private static IdSet[] concat(List<Block> parts, int codes, Function<Block, IdList[]> lists) {
+        final IdSet[] res = new IdSet[codes];
+        for (int code = 0; code < codes; code++) {
+            int size = 0;
+            for (Block part : parts) {
+                size += lists.apply(part)[code].size;
+            }
+            final int[] ids = new int[size];
+            int position = 0;
+            for (Block part : parts) {
+                final IdList list = lists.apply(part)[code];
+                System.arraycopy(list.ids, 0, ids, position, list.size);
+                position += list.size;
+            }
+            res[code] = IdSet.wrap(ids);
+        }
+        return res;
+    }
+
+    /**
+     * @return employees with at least one job at {@code employer}
+     */
+    public IdSet workedAt(String employer) {
+        return get(byEmployer, StringDictionary.EMPLOYERS.find(employer));
+    }
+
+    /**
+     * @return employees who held {@code position} at least once
+     */
+    public IdSet hadPosition(String position) {
+        return get(byPosition, StringDictionary.POSITIONS.find(position));
+    }
+
+    /**
+     * @return employees whose first job was at {@code employer}
+     */
+    public IdSet startedAt(String employer) {
+        return get(byFirstEmployer, StringDictionary.EMPLOYERS.find(employer));
+    }
+
+    private static IdSet get(IdSet[] sets, int code) {
+        return code >= 0 && code < sets.length ? sets[code] : IdSet.EMPTY;
+    }
+
+    /**
+     * Index of employees {@code [from, to)}, ids come in increasing order so lists stay sorted.
+     */
+    private static class Block {
+        private final IdList[] byEmployer;
+        private final IdList[] byPosition;
+        private final IdList[] byFirstEmployer;
+
+        private Block(EmployeeTable table, int from, int to, int employers, int positions) {
+            byEmployer = IdList.array(employers);
+            byPosition = IdList.array(positions);
+            byFirstEmployer = IdList.array(employers);
+
+            for (int i = from; i < to; i++) {
+                final int start = table.historyStart(i);
+                final int end = table.historyEnd(i);
+                for (int entry = start; entry < end; entry++) {
+                    final int employer = table.getEmployerCode(entry);
+                    if (employer >= 0 && employer < employers) {
+                        byEmployer[employer].addOnce(i);
+                        if (entry == start) {
+                            byFirstEmployer[employer].addOnce(i);
+                        }
+                    }
+                    final int position = table.getPositionCode(entry);
+                    if (position >= 0 && position < positions) {
+                        byPosition[position].addOnce(i);
+                    }
+                }
+            }
+        }
+    }
+
+    private static class IdList {
+        private int[] ids = new int[16];
+        private int size;
+
+        private static IdList[] array(int length) {
+            final IdList[] res = new IdList[length];
+            Arrays.setAll(res, i -> new IdList());
+            return res;
+        }
+
+        /**
+         * Adds {@code id} unless it is the last one, ids are added in increasing order.
+         */
+        private void addOnce(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package data;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Read-only view of an {@link EmployeeCodec} snapshot file mapped into memory.
+ *
+ * <p>Opening the store scans the record headers once and keeps only the position of every employee
+ * record. Employees are decoded when they are consumed, and flyweight accessors such as
+ * {@link #getAge(int)} or {@link Record#getEmployerCode(int)} of {@link #record(int)} read single fields in place.
+ * Records are numbered {@code [0, size())} in file order.
+ *
+ * <p>A single mapping can't exceed 2 GB, so the file is mapped as a number of segments that start
+ * on record boundaries.
+ */
+public final class EmployeeSnapshotStore {
+    public static final long DEFAULT_SEGMENT_BYTES = 1L << 30;
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int RECORD_HEADER_BYTES = 1 + Integer.BYTES;
+
+    private final MappedByteBuffer[] segments;
+    // segmentFirstRecords[s] is the first record of segment s, segmentFirstRecords[segments.length] is the size
+    private final int[] segmentFirstRecords;
+    // position of the payload of every record in its segment
+    private final int[] offsets;
+    // snapshot code -> global dictionary code
+    private final int[] employerCodes;
+    private final int[] positionCodes;
+
+    private EmployeeSnapshotStore(MappedByteBuffer[] segments, int[] segmentFirstRecords, int[] offsets,
+                                  int[] employerCodes, int[] positionCodes) {
+        this.segments = segments;
+        this.segmentFirstRecords = segmentFirstRecords;
+        this.offsets = offsets;
+        this.employerCodes = employerCodes;
+        this.positionCodes = positionCodes;
+    }
+
+    public static EmployeeSnapshotStore open(Path file) throws IOException {
+        return open(file, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public static EmployeeSnapshotStore open(Path file, long segmentBytes) throws IOException {
+        if (segmentBytes < HEADER_BYTES || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentBytes: " + segmentBytes);
+        }
+
+        // mappings stay valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            EmployeeCodec.readHeader(in);
+
+            final EmployeeCodec.CodeTable employers = new EmployeeCodec.CodeTable();
+            final EmployeeCodec.CodeTable positions = new EmployeeCodec.CodeTable();
+            final EmployeeCodec.RecordBuffer definition = new EmployeeCodec.RecordBuffer();
+            int[] offsets = new int[1024];
+            int size = 0;
+            // a segment ends with its last employee, so records between segments aren't mapped
+            long[] segmentStarts = {HEADER_BYTES, 0, 0, 0};
+            long[] segmentEnds = {HEADER_BYTES, 0, 0, 0};
+            int[] segmentFirstRecords = new int[5];
+            int segmentCount = 1;
+            long position = HEADER_BYTES;
+
+            while (true) {
+                final byte tag = in.readByte();
+                if (tag == EmployeeCodec.END) {
+                    break;
+                }
+                final int length = in.readInt();
+                if (length < 0) {
+                    throw new IOException("negative record length at " + position);
+                }
+                final long recordEnd = position + RECORD_HEADER_BYTES + length;
+                switch (tag) {
+                    case EmployeeCodec.EMPLOYEE:
+                        if (recordEnd - segmentStarts[segmentCount - 1] > segmentBytes) {
+                            if (recordEnd - position > segmentBytes) {
+                                throw new IOException("record of " + length + " bytes doesn't fit a segment");
+                            }
+                            if (segmentFirstRecords[segmentCount - 1] == size) {
+                                // no records in the current segment yet, just move its start
+                                segmentStarts[segmentCount - 1] = position;
+                            } else {
+                                if (segmentCount == segmentStarts.length) {
+                                    segmentStarts = Arrays.copyOf(segmentStarts, segmentCount * 2);
+                                    segmentEnds = Arrays.copyOf(segmentEnds, segmentCount * 2);
+                                    segmentFirstRecords = Arrays.copyOf(segmentFirstRecords, segmentCount * 2 + 1);
+                                }
+                                segmentStarts[segmentCount] = position;
+                                segmentFirstRecords[segmentCount] = size;
+                                segmentCount++;
+                            }
+                        }
+                        if (size == offsets.length) {
+                            offsets = Arrays.copyOf(offsets, Math.addExact(size, size >> 1));
+                        }
+                        offsets[size++] = (int) (position + RECORD_HEADER_BYTES - segmentStarts[segmentCount - 1]);
+                        segmentEnds[segmentCount - 1] = recordEnd;
+                        skipFully(in, length);
+                        break;
+                    case EmployeeCodec.EMPLOYER:
+                    case EmployeeCodec.POSITION:
+                        // bounded by the length: padding is skipped, a short length can't run into the next record
+                        final DataInput payload = definition.fill(in, length);
+                        try {
+                            if (tag == EmployeeCodec.EMPLOYER) {
+                                EmployeeCodec.readDefinition(payload, employers, StringDictionary.EMPLOYERS);
+                            } else {
+                                EmployeeCodec.readDefinition(payload, positions, StringDictionary.POSITIONS);
+                            }
+                        } catch (EOFException e) {
+                            throw EmployeeCodec.overrun(tag, length, e);
+                        }
+                        break;
+                    default:
+                        skipFully(in, length);
+                }
+                position = recordEnd;
+            }
+
+            final MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, segmentStarts[i], segmentEnds[i] - segmentStarts[i]);
+            }
+            segmentFirstRecords[segmentCount] = size;
+
+            return new EmployeeSnapshotStore(segments,
+                    Arrays.copyOf(segmentFirstRecords, segmentCount + 1),
+                    Arrays.copyOf(offsets, size),
+                    employers.toArray(),
+                    positions.toArray());
+        }
+    }
+
+    private static void skipFully(DataInputStream in, int length) throws IOException {
+        while (length > 0) {
+            final int skipped = in.skipBytes(length);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            length -= skipped;
+        }
+    }
+
+    public int size() {
+        return offsets.length;
+    }
+
+    /**
+     * @return record numbers {@code [0, size())} for flyweight queries
+     */
+    public IntStream records() {
+        return IntStream.range(0, size());
+    }
+
+    public Spliterator<Employee> spliterator() {
+        return new EmployeeSpliterator(0, size());
+    }
+
+    public Stream<Employee> stream(boolean parallel) {
+        return StreamSupport.stream(spliterator(), parallel);
+    }
+
+    public int getAge(int record) {
+        return segment(record).getInt(offsets[record]);
+    }
+
+    /**
+     * Fields of a record; reading several of them through one {@link Record} resolves the record only once.
+     */
+    public Record record(int record) {
+        return new Record(segment(record), offsets[record]);
+    }
+
+    public int historyLength(int record) {
+        return record(record).historyLength();
+    }
+
+    public int getDuration(int record, int entry) {
+        return record(record).getDuration(entry);
+    }
+
+    public int getEmployerCode(int record, int entry) {
+        return record(record).getEmployerCode(entry);
+    }
+
+    public int getPositionCode(int record, int entry) {
+        return record(record).getPositionCode(entry);
+    }
+
+    public Person getPerson(int record) {
+        return readPerson(segment(record), offsets[record]);
+    }
+
+    public Employee getEmployee(int record) {
+        final ByteBuffer segment = segment(record);
+        final int payload = offsets[record];
+        int position = historyStart(segment, payload);
+        final JobHistoryEntry[] history = new JobHistoryEntry[segment.getInt(position - Integer.BYTES)];
+        for (int i = 0; i < history.length; i++) {
+            history[i] = new JobHistoryEntry(
+                    segment.getInt(position),
+                    globalCode(positionCodes, segment.getInt(position + 2 * Integer.BYTES)),
+                    globalCode(employerCodes, segment.getInt(position + Integer.BYTES)));
+            position += EmployeeCodec.ENTRY_BYTES;
+        }
+        return new Employee(readPerson(segment, payload), Arrays.asList(history));
+    }
+
+    private ByteBuffer segment(int record) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        // segments are never empty, so first records are distinct
+        final int segment = Arrays.binarySearch(segmentFirstRecords, record);
+        return segments[segment < 0 ? -segment - 2 : segment];
+    }
+
+    /**
+     * Flyweight over one employee record: its segment and the start of its history are looked up
+     * when it is created, field reads go straight to the mapped bytes.
+     */
+    public final class Record {
+        private final ByteBuffer segment;
+        private final int payload;
+        private final int historyStart;
+        private final int historyLength;
+
+        private Record(ByteBuffer segment, int payload) {
+            this.segment = segment;
+            this.payload = payload;
+            this.historyStart = historyStart(segment, payload);
+            this.historyLength = segment.getInt(historyStart - Integer.BYTES);
+        }
+
+        public int getAge() {
+            return segment.getInt(payload);
+        }
+
+        public Person getPerson() {
+            return readPerson(segment, payload);
+        }
+
+        public int historyLength() {
+            return historyLength;
+        }
+
+        public int getDuration(int entry) {
+            return segment.getInt(entryStart(entry));
+        }
+
+        public int getEmployerCode(int entry) {
+            return globalCode(employerCodes, segment.getInt(entryStart(entry) + Integer.BYTES));
+        }
+
+        public int getPositionCode(int entry) {
+            return globalCode(positionCodes, segment.getInt(entryStart(entry) + 2 * Integer.BYTES));
+        }
+
+        private int entryStart(int entry) {
+            if (entry < 0 || entry >= historyLength) {
+                throw new IndexOutOfBoundsException("entry: " + entry);
+            }
+            return historyStart + entry * EmployeeCodec.ENTRY_BYTES;
+        }
+    }
+
+    private static Person readPerson(ByteBuffer segment, int payload) {
+        int position = payload;
+        final int age = segment.getInt(position);
+        position += Integer.BYTES;
+        final String firstName = readString(segment, position);
+        position = skipString(segment, position);
+        final String lastName = readString(segment, position);
+        return new Person(firstName, lastName, age);
+    }
+
+    /**
+     * @return position of the first history entry, the history length is right before it
+     */
+    private static int historyStart(ByteBuffer segment, int payload) {
+        final int afterFirstName = skipString(segment, payload + Integer.BYTES);
+        return skipString(segment, afterFirstName) + Integer.BYTES;
+    }
+
+    private static int skipString(ByteBuffer segment, int position) {
+        return position + Short.BYTES + Math.max(0, segment.getShort(position));
+    }
+
+    private static String readString(ByteBuffer segment, int position) {
+        final int length = segment.getShort(position);
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = segment.get(position + Short.BYTES + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int globalCode(int[] codes, int local) {
+        return local == StringDictionary.NULL_CODE ? StringDictionary.NULL_CODE : codes[local];
+    }
+
+    private class EmployeeSpliterator extends Spliterators.AbstractSpliterator<Employee> {
+        private int startInclusive;
+        private final int endExclusive;
+
+        private EmployeeSpliterator(int startInclusive, int endExclusive) {
+            super(endExclusive - startInclusive,
+                    Spliterator.IMMUTABLE
+                            | Spliterator.ORDERED
+                            | Spliterator.SIZED
+                            | Spliterator.SUBSIZED
+                            | Spliterator.NONNULL);
+            this.startInclusive = startInclusive;
+            this.endExclusive = endExclusive;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Employee> action) {
+            if (startInclusive < endExclusive) {
+                action.accept(getEmployee(startInclusive));
+                startInclusive += 1;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Employee> action) {
+            final int end = endExclusive;
+            int i = startInclusive;
+            startInclusive = end;
+            for (; i < end; i++) {
+                action.accept(getEmployee(i));
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return endExclusive - startInclusive;
+        }
+
+        @Override
+        public Spliterator<Employee> trySplit() {
+            final int length = endExclusive - startInclusive;
+            if (length < 2) {
+                return null;
+            }
+
+            final int mid = startInclusive + length / 2;
+            final EmployeeSpliterator res = new EmployeeSpliterator(startInclusive, mid);
+            startInclusive = mid;
+            return res;
+        }
+    }
+}
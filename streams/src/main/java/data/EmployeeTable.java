@@ -0,0 +1,200 @@
+package data;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable column-oriented copy of a list of employees.
+ *
+ * <p>Employee columns are indexed by employee number {@code [0, size())}, job history columns
+ * by entry number {@code [0, entryCount())}. History of employee {@code i} occupies entries
+ * {@code [historyStart(i), historyEnd(i))}, employers and positions are codes of
+ * {@link StringDictionary#EMPLOYERS} and {@link StringDictionary#POSITIONS}.
+ *
+ * <p>Scans of a single column read one contiguous array, e.g. the total duration at epam:
+ * <pre>{@code
+ * final int epam = StringDictionary.EMPLOYERS.find("epam");
+ * table.entries().filter(i -> table.getEmployerCode(i) == epam).map(table::getDuration).sum();
+ * }</pre>
+ */
+public final class EmployeeTable {
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final int[] ages;
+    // historyOffsets[i] is the first entry of employee i, historyOffsets[size] is the entry count
+    private final int[] historyOffsets;
+
+    private final int[] owners;
+    private final int[] durations;
+    private final int[] employerCodes;
+    private final int[] positionCodes;
+
+    private EmployeeTable(String[] firstNames, String[] lastNames, int[] ages, int[] historyOffsets,
+                          int[] owners, int[] durations, int[] employerCodes, int[] positionCodes) {
+        this.firstNames = firstNames;
+        this.lastNames = lastNames;
+        this.ages = ages;
+        this.historyOffsets = historyOffsets;
+        this.owners = owners;
+        this.durations = durations;
+        this.employerCodes = employerCodes;
+        this.positionCodes = positionCodes;
+    }
+
+    public static EmployeeTable of(List<Employee> employees) {
+        final int size = employees.size();
+        final String[] firstNames = new String[size];
+        final String[] lastNames = new String[size];
+        final int[] ages = new int[size];
+        final int[] historyOffsets = new int[size + 1];
+
+        // iterated, not indexed: the list may be a LinkedList
+        int i = 0;
+        for (Employee employee : employees) {
+            final Person person = employee.getPerson();
+            firstNames[i] = person.getFirstName();
+            lastNames[i] = person.getLastName();
+            ages[i] = person.getAge();
+            historyOffsets[i + 1] = Math.addExact(historyOffsets[i], employee.getJobHistory().size());
+            i++;
+        }
+
+        final int entryCount = historyOffsets[size];
+        final int[] owners = new int[entryCount];
+        final int[] durations = new int[entryCount];
+        final int[] employerCodes = new int[entryCount];
+        final int[] positionCodes = new int[entryCount];
+
+        int owner = 0;
+        for (Employee employee : employees) {
+            int entry = historyOffsets[owner];
+            for (JobHistoryEntry j : employee.getJobHistory()) {
+                owners[entry] = owner;
+                durations[entry] = j.getDuration();
+                employerCodes[entry] = j.getEmployerCode();
+                positionCodes[entry] = j.getPositionCode();
+                entry++;
+            }
+            owner++;
+        }
+
+        return new EmployeeTable(firstNames, lastNames, ages, historyOffsets,
+                owners, durations, employerCodes, positionCodes);
+    }
+
+    public int size() {
+        return ages.length;
+    }
+
+    public int entryCount() {
+        return durations.length;
+    }
+
+    public String getFirstName(int employee) {
+        return firstNames[employee];
+    }
+
+    public String getLastName(int employee) {
+        return lastNames[employee];
+    }
+
+    public int getAge(int employee) {
+        return ages[employee];
+    }
+
+    public int historyStart(int employee) {
+        return historyOffsets[employee];
+    }
+
+    public int historyEnd(int employee) {
+        return historyOffsets[employee + 1];
+    }
+
+    public int getOwner(int entry) {
+        return owners[entry];
+    }
+
+    public int getDuration(int entry) {
+        return durations[entry];
+    }
+
+    public int getEmployerCode(int entry) {
+        return employerCodes[entry];
+    }
+
+    public int getPositionCode(int entry) {
+        return positionCodes[entry];
+    }
+
+    public Person getPerson(int employee) {
+        return new Person(firstNames[employee], lastNames[employee], ages[employee]);
+    }
+
+    public JobHistoryEntry getEntry(int entry) {
+        return new JobHistoryEntry(durations[entry], positionCodes[entry], employerCodes[entry]);
+    }
+
+    public Employee getEmployee(int employee) {
+        final JobHistoryEntry[] history = new JobHistoryEntry[historyEnd(employee) - historyStart(employee)];
+        for (int i = 0; i < history.length; i++) {
+            history[i] = getEntry(historyStart(employee) + i);
+        }
+        return new Employee(getPerson(employee), Arrays.asList(history));
+    }
+
+    /**
+     * @return employee numbers {@code [0, size())}
+     */
+    public IntStream employees() {
+        return IntStream.range(0, size());
+    }
+
+    /**
+     * @return entry numbers {@code [0, entryCount())}
+     */
+    public IntStream entries() {
+        return IntStream.range(0, entryCount());
+    }
+
+    public IntStream ages() {
+        return Arrays.stream(ages);
+    }
+
+    public IntStream owners() {
+        return Arrays.stream(owners);
+    }
+
+    public IntStream durations() {
+        return Arrays.stream(durations);
+    }
+
+    public IntStream employerCodes() {
+        return Arrays.stream(employerCodes);
+    }
+
+    public IntStream positionCodes() {
+        return Arrays.stream(positionCodes);
+    }
+
+    public Spliterator.OfInt agesSpliterator() {
+        return Arrays.spliterator(ages);
+    }
+
+    public Spliterator.OfInt ownersSpliterator() {
+        return Arrays.spliterator(owners);
+    }
+
+    public Spliterator.OfInt durationsSpliterator() {
+        return Arrays.spliterator(durations);
+    }
+
+    public Spliterator.OfInt employerCodesSpliterator() {
+        return Arrays.spliterator(employerCodes);
+    }
+
+    public Spliterator.OfInt positionCodesSpliterator() {
+        return Arrays.spliterator(positionCodes);
+    }
+}
@@ -1,9 +1,10 @@
 package data;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
@@ -12,16 +13,30 @@ import static java.util.stream.Collectors.toList;
  * @author Simon Popugaev
  */
 public class Generator {
+    public static final long DEFAULT_SEED = 42;
+    public static final int DEFAULT_SIZE = 10_000;
 
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final char[] LETTERS = ALPHABET.toCharArray();
+    private static final int MAX_STRING_LENGTH = 10;
+    private static final String[] EMPLOYERS = {"epam", "google", "yandex", "abc"};
+    private static final String[] POSITIONS = {"dev", "QA", "BA"};
+
+    /**
+     * @return alphabet prefix of random length
+     */
     public static String generateString() {
-        final String letters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
-        final int maxLength = 10;
-        final int length = ThreadLocalRandom.current().nextInt(maxLength) + 1;
+        return ALPHABET.substring(0, ThreadLocalRandom.current().nextInt(MAX_STRING_LENGTH) + 1);
+    }
 
-        return IntStream.range(0, length)
-                .mapToObj(letters::charAt)
-                .map(Object::toString)
-                .collect(Collectors.joining());
+    // random letters, used by the seeded generation
+    private static String generateString(int length, long bits) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = LETTERS[(int) Long.remainderUnsigned(bits, LETTERS.length)];
+            bits = Long.divideUnsigned(bits, LETTERS.length);
+        }
+        return new String(chars);
     }
 
     public static Person generatePerson() {
@@ -35,15 +50,11 @@ public class Generator {
     }
 
     public static String generateEmployer() {
-        final String[] employers = {"epam", "google", "yandex", "abc"};
-
-        return employers[ThreadLocalRandom.current().nextInt(employers.length)];
+        return EMPLOYERS[ThreadLocalRandom.current().nextInt(EMPLOYERS.length)];
     }
 
     public static String generatePosition() {
-        final String[] positions = {"dev", "QA", "BA"};
-
-        return positions[ThreadLocalRandom.current().nextInt(positions.length)];
+        return POSITIONS[ThreadLocalRandom.current().nextInt(POSITIONS.length)];
     }
 
     public static List<JobHistoryEntry> generateJobHistory() {
@@ -60,7 +71,168 @@ public class Generator {
     }
 
     public static List<Employee> generateEmployeeList() {
-        // TODO
-        throw new UnsupportedOperationException();
+        return generateEmployeeList(DEFAULT_SIZE);
+    }
+
+    public static List<Employee> generateEmployeeList(int size) {
+        return generateEmployeeList(size, DEFAULT_SEED, Profile.DEFAULT);
+    }
+
+    /**
+     * Generates {@code size} employees in parallel. The result depends only on {@code seed} and {@code profile}.
+     */
+    public static List<Employee> generateEmployeeList(int size, long seed, Profile profile) {
+        final Employee[] employees = new Employee[size];
+        Arrays.parallelSetAll(employees, i -> generateEmployee(i, seed, profile));
+        return Arrays.asList(employees);
+    }
+
+    /**
+     * Lazy sized stream of {@code size} employees, same as {@link #generateEmployeeList(int, long, Profile)}
+     * would return but without keeping them in memory.
+     */
+    public static Stream<Employee> employees(long size, long seed, Profile profile, boolean parallel) {
+        final LongStream indexes = LongStream.range(0, size);
+        return (parallel ? indexes.parallel() : indexes).mapToObj(i -> generateEmployee(i, seed, profile));
+    }
+
+    /**
+     * Employee number {@code index} of the data set given by {@code seed}.
+     * Every employee has its own random generator, so employees may be generated in any order.
+     */
+    public static Employee generateEmployee(long index, long seed, Profile profile) {
+        final SplittableRandom random = new SplittableRandom(mix64(seed + index * 0x9e3779b97f4a7c15L));
+
+        final Person person = new Person(
+                generateString(random.nextInt(MAX_STRING_LENGTH) + 1, random.nextLong()),
+                generateString(random.nextInt(MAX_STRING_LENGTH) + 1, random.nextLong()),
+                18 + random.nextInt(50));
+
+        final JobHistoryEntry[] history = new JobHistoryEntry[Profile.pick(profile.historyLengths, random) + 1];
+        for (int i = 0; i < history.length; i++) {
+            history[i] = new JobHistoryEntry(
+                    random.nextInt(profile.maxDuration) + 1,
+                    profile.positionCodes[Profile.pick(profile.positionWeights, random)],
+                    profile.employerCodes[Profile.pick(profile.employerWeights, random)]);
+        }
+        return new Employee(person, Arrays.asList(history));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Distributions of generated data. Weights don't have to sum up to one.
+     */
+    public static final class Profile {
+        public static final Profile DEFAULT = new Profile(
+                EMPLOYERS, cumulative(uniform(EMPLOYERS.length)),
+                POSITIONS, cumulative(uniform(POSITIONS.length)),
+                cumulative(uniform(10)),
+                10);
+
+        private final String[] employers;
+        private final int[] employerCodes;
+        private final double[] employerWeights;
+        private final String[] positions;
+        private final int[] positionCodes;
+        private final double[] positionWeights;
+        // historyLengths[i] is the probability to have at most i + 1 entries
+        private final double[] historyLengths;
+        private final int maxDuration;
+
+        private Profile(String[] employers, double[] employerWeights,
+                        String[] positions, double[] positionWeights,
+                        double[] historyLengths, int maxDuration) {
+            this.employers = employers;
+            this.employerCodes = Arrays.stream(employers).mapToInt(StringDictionary.EMPLOYERS::encode).toArray();
+            this.employerWeights = employerWeights;
+            this.positions = positions;
+            this.positionCodes = Arrays.stream(positions).mapToInt(StringDictionary.POSITIONS::encode).toArray();
+            this.positionWeights = positionWeights;
+            this.historyLengths = historyLengths;
+            this.maxDuration = maxDuration;
+        }
+
+        public Profile withEmployers(String[] employers, double... weights) {
+            checkLength(employers.length, weights.length);
+            return new Profile(employers.clone(), cumulative(weights),
+                    positions, positionWeights, historyLengths, maxDuration);
+        }
+
+        public Profile withPositions(String[] positions, double... weights) {
+            checkLength(positions.length, weights.length);
+            return new Profile(employers, employerWeights,
+                    positions.clone(), cumulative(weights), historyLengths, maxDuration);
+        }
+
+        /**
+         * @param weights {@code weights[i]} is the weight of a job history of {@code i + 1} entries
+         */
+        public Profile withHistoryLengths(double... weights) {
+            return new Profile(employers, employerWeights,
+                    positions, positionWeights, cumulative(weights), maxDuration);
+        }
+
+        public Profile withMaxDuration(int maxDuration) {
+            if (maxDuration < 1) {
+                throw new IllegalArgumentException("maxDuration: " + maxDuration);
+            }
+            return new Profile(employers, employerWeights,
+                    positions, positionWeights, historyLengths, maxDuration);
+        }
+
+        private static void checkLength(int values, int weights) {
+            if (values != weights) {
+                throw new IllegalArgumentException(values + " values but " + weights + " weights");
+            }
+        }
+
+        private static double[] uniform(int n) {
+            final double[] res = new double[n];
+            Arrays.fill(res, 1);
+            return res;
+        }
+
+        private static double[] cumulative(double[] weights) {
+            if (weights.length == 0) {
+                throw new IllegalArgumentException("no weights");
+            }
+            final double[] res = new double[weights.length];
+            double sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                if (!(weights[i] >= 0)) {
+                    throw new IllegalArgumentException("weight: " + weights[i]);
+                }
+                sum += weights[i];
+                res[i] = sum;
+            }
+            if (sum <= 0) {
+                throw new IllegalArgumentException("weights sum up to " + sum);
+            }
+            for (int i = 0; i < res.length; i++) {
+                res[i] /= sum;
+            }
+            res[res.length - 1] = 1;
+            return res;
+        }
+
+        private static int pick(double[] cumulative, SplittableRandom random) {
+            final double u = random.nextDouble();
+            int lo = 0;
+            int hi = cumulative.length - 1;
+            while (lo < hi) {
+                final int mid = (lo + hi) >>> 1;
+                if (cumulative[mid] <= u) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
     }
 }
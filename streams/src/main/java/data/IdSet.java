@@ -0,0 +1,123 @@
+package data;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable sorted set of employee ids backed by an {@code int[]}.
+ */
+public final class IdSet {
+    public static final IdSet EMPTY = new IdSet(new int[0]);
+
+    private final int[] ids;
+
+    private IdSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * @param ids strictly increasing ids, the array is not copied
+     */
+    static IdSet wrap(int[] ids) {
+        return ids.length == 0 ? EMPTY : new IdSet(ids);
+    }
+
+    public static IdSet of(int... ids) {
+        final int[] sorted = IntStream.of(ids).sorted().distinct().toArray();
+        return wrap(sorted);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public boolean contains(int id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(ids);
+    }
+
+    public int[] toArray() {
+        return ids.clone();
+    }
+
+    public IdSet and(IdSet other) {
+        final int[] a = size() <= other.size() ? ids : other.ids;
+        final int[] b = a == ids ? other.ids : ids;
+        final int[] res = new int[a.length];
+        int size = 0;
+        if ((long) a.length * 32 < b.length) {
+            // much smaller set: look every id up instead of merging
+            for (int id : a) {
+                if (Arrays.binarySearch(b, id) >= 0) {
+                    res[size++] = id;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    res[size++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return wrap(Arrays.copyOf(res, size));
+    }
+
+    public IdSet or(IdSet other) {
+        final int[] a = ids;
+        final int[] b = other.ids;
+        final int[] res = new int[a.length + b.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                res[size++] = a[i++];
+            } else if (a[i] > b[j]) {
+                res[size++] = b[j++];
+            } else {
+                res[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        while (i < a.length) {
+            res[size++] = a[i++];
+        }
+        while (j < b.length) {
+            res[size++] = b[j++];
+        }
+        return wrap(Arrays.copyOf(res, size));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(ids, ((IdSet) o).ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(ids);
+    }
+}
@@ -1,16 +1,34 @@
 package data;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.Objects;
 
-public class JobHistoryEntry {
+/**
+ * Positions and employers are kept as codes of {@link StringDictionary#POSITIONS} and
+ * {@link StringDictionary#EMPLOYERS}, the getters return their canonical strings.
+ * Codes differ between JVMs, so entries are serialized with strings.
+ */
+public class JobHistoryEntry implements Serializable {
     private final int duration;
-    private final String position;
-    private final String employer;
+    private final int positionCode;
+    private final int employerCode;
+    // cached hash code, 0 until computed
+    private transient int hash;
 
     public JobHistoryEntry(int duration, String position, String employer) {
+        this(duration, StringDictionary.POSITIONS.encode(position), StringDictionary.EMPLOYERS.encode(employer));
+    }
+
+    /**
+     * Codes aren't checked: callers must take them from {@link StringDictionary#POSITIONS}
+     * and {@link StringDictionary#EMPLOYERS}.
+     */
+    JobHistoryEntry(int duration, int positionCode, int employerCode) {
         this.duration = duration;
-        this.position = position;
-        this.employer = employer;
+        this.positionCode = positionCode;
+        this.employerCode = employerCode;
     }
 
     public int getDuration() {
@@ -18,28 +36,36 @@ public class JobHistoryEntry {
     }
 
     public String getPosition() {
-        return position;
+        return StringDictionary.POSITIONS.decode(positionCode);
     }
 
     public String getEmployer() {
-        return employer;
+        return StringDictionary.EMPLOYERS.decode(employerCode);
+    }
+
+    public int getPositionCode() {
+        return positionCode;
+    }
+
+    public int getEmployerCode() {
+        return employerCode;
     }
 
     public JobHistoryEntry withDuration(int duration) {
-        return new JobHistoryEntry(duration, position, employer);
+        return new JobHistoryEntry(duration, positionCode, employerCode);
     }
 
     public JobHistoryEntry withPosition(String position) {
-        return new JobHistoryEntry(duration, position, employer);
+        return new JobHistoryEntry(duration, StringDictionary.POSITIONS.encode(position), employerCode);
     }
 
     public JobHistoryEntry withEmployer(String employer) {
-        return new JobHistoryEntry(duration, position, employer);
+        return new JobHistoryEntry(duration, positionCode, StringDictionary.EMPLOYERS.encode(employer));
     }
 
     @Override
     public String toString() {
-        return String.join(" ", employer, position, String.valueOf(duration));
+        return String.join(" ", getEmployer(), getPosition(), String.valueOf(duration));
     }
 
     @Override
@@ -47,11 +73,43 @@ public class JobHistoryEntry {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         JobHistoryEntry that = (JobHistoryEntry) o;
-        return duration == that.duration && Objects.equals(position, that.position) && Objects.equals(employer, that.employer);
+        return duration == that.duration && positionCode == that.positionCode && employerCode == that.employerCode;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(duration, position, employer);
+        int h = hash;
+        if (h == 0) {
+            // same value as Objects.hash(duration, position, employer) without boxing
+            h = 31 * (31 * (31 + duration) + Objects.hashCode(getPosition())) + Objects.hashCode(getEmployer());
+            hash = h;
+        }
+        return h;
+    }
+
+    private Object writeReplace() {
+        return new SerializedForm(duration, getPosition(), getEmployer());
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("serialized form required");
+    }
+
+    private static class SerializedForm implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final int duration;
+        private final String position;
+        private final String employer;
+
+        private SerializedForm(int duration, String position, String employer) {
+            this.duration = duration;
+            this.position = position;
+            this.employer = employer;
+        }
+
+        private Object readResolve() {
+            return new JobHistoryEntry(duration, position, employer);
+        }
     }
 }
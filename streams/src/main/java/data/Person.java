@@ -7,6 +7,8 @@ public class Person implements Comparable<Person>, Serializable {
     private final String firstName;
     private final String lastName;
     private final int age;
+    // cached hash code, 0 until computed
+    private transient int hash;
 
     public Person(String firstName, String lastName, int age) {
         this.firstName = firstName;
@@ -60,13 +62,20 @@ public class Person implements Comparable<Person>, Serializable {
         if (o == null || getClass() != o.getClass()) return false;
         Person person = (Person) o;
         return age == person.age &&
+                hashCode() == person.hashCode() &&
                 Objects.equals(firstName, person.firstName) &&
                 Objects.equals(lastName, person.lastName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(firstName, lastName, age);
+        int h = hash;
+        if (h == 0) {
+            // same value as Objects.hash(firstName, lastName, age) without boxing
+            h = 31 * (31 * (31 + Objects.hashCode(firstName)) + Objects.hashCode(lastName)) + age;
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -0,0 +1,79 @@
+package data;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only dictionary of a small vocabulary: every distinct string gets a dense int code
+ * starting from zero, and a single canonical instance per code is kept.
+ * Codes never change, so they can be compared with {@code ==} and used as array indexes
+ * ({@code new long[dictionary.size()]}).
+ * {@code null} is encoded as {@link #NULL_CODE}.
+ */
+public final class StringDictionary {
+    public static final int NULL_CODE = -1;
+
+    public static final StringDictionary EMPLOYERS = new StringDictionary();
+    public static final StringDictionary POSITIONS = new StringDictionary();
+
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[16];
+    private int size;
+
+    public int encode(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        final Integer code = codes.get(value);
+        return code != null ? code : add(value);
+    }
+
+    private synchronized int add(String value) {
+        final Integer existing = codes.get(value);
+        if (existing != null) {
+            return existing;
+        }
+
+        String[] values = this.values;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        final int code = size;
+        values[code] = value;
+        this.values = values;
+        size = code + 1;
+        // publish the code only after the value is visible
+        codes.put(value, code);
+        return code;
+    }
+
+    /**
+     * @return code of {@code value} or {@link #NULL_CODE} if it was never encoded; never adds a new code
+     */
+    public int find(String value) {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        final Integer code = codes.get(value);
+        return code != null ? code : NULL_CODE;
+    }
+
+    public String decode(int code) {
+        return code == NULL_CODE ? null : values[code];
+    }
+
+    /**
+     * @return canonical instance equal to {@code value}
+     */
+    public String canonical(String value) {
+        return decode(encode(value));
+    }
+
+    /**
+     * @return number of codes, all codes are in {@code [0, size())}
+     */
+    public synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,67 @@
+package data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EmployeeCodec} against Java serialization of the same list.
+ * Snapshot sizes are printed on setup.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class EmployeeCodecBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int length;
+
+    public ArrayList<Employee> employees;
+    public byte[] codecBytes;
+    public byte[] serializedBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        employees = new ArrayList<>(Generator.generateEmployeeList(length));
+        codecBytes = encode_codec().toByteArray();
+        serializedBytes = encode_serialization().toByteArray();
+        System.out.printf("%ncodec: %d bytes, serialization: %d bytes%n", codecBytes.length, serializedBytes.length);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream encode_codec() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+        EmployeeCodec.writer(new DataOutputStream(new BufferedOutputStream(bytes))).writeAll(employees).finish();
+        return bytes;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream encode_serialization() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(bytes))) {
+            out.writeObject(employees);
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public long decode_codec() throws IOException {
+        return EmployeeCodec.reader(new DataInputStream(new BufferedInputStream(new ByteArrayInputStream(codecBytes))))
+                .stream()
+                .count();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public int decode_serialization() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new ByteArrayInputStream(serializedBytes)))) {
+            return ((List<Employee>) in.readObject()).size();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package data;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class EmployeeCodecTest {
+
+    private static final List<Employee> EMPLOYEES = Generator.generateEmployeeList(10_000);
+
+    @Test
+    public void dataStreams() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EmployeeCodec.writer(new DataOutputStream(bytes)).writeAll(EMPLOYEES).finish();
+
+        final EmployeeCodec.Reader reader =
+                EmployeeCodec.reader(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(EMPLOYEES, reader.stream().collect(toList()));
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void channels() throws IOException {
+        final Path file = Files.createTempFile("employees", ".bin");
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                EmployeeCodec.writer(channel).writeAll(EMPLOYEES).finish();
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                assertEquals(EMPLOYEES, EmployeeCodec.reader(channel).stream().collect(toList()));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void nullsAndUnicode() throws IOException {
+        final List<Employee> employees = Arrays.asList(
+                new Employee(new Person(null, "Доу", 0), Arrays.asList(new JobHistoryEntry(1, null, null))),
+                new Employee(new Person("Jöhn", null, 99), Arrays.asList(
+                        new JobHistoryEntry(2, "архитектор", "epam"),
+                        new JobHistoryEntry(3, "dev", "архитектор"))));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EmployeeCodec.writer(new DataOutputStream(bytes)).writeAll(employees).finish();
+        final EmployeeCodec.Reader reader =
+                EmployeeCodec.reader(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(employees, reader.stream().collect(toList()));
+    }
+
+    @Test
+    public void skipsUnknownRecords() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        final EmployeeCodec.Writer writer = EmployeeCodec.writer(out);
+        writer.write(EMPLOYEES.get(0));
+        out.writeByte(42);
+        out.writeInt(5000);
+        out.write(new byte[5000]);
+        writer.write(EMPLOYEES.get(1)).finish();
+
+        final EmployeeCodec.Reader reader =
+                EmployeeCodec.reader(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(EMPLOYEES.subList(0, 2), reader.stream().collect(toList()));
+    }
+
+    @Test
+    public void skipsTrailingBytesOfKnownRecords() throws IOException {
+        final byte[] snapshot = snapshot(EMPLOYEES.subList(0, 2));
+        // the first record defines an employer, pad its payload with 3 bytes
+        final int length = ByteBuffer.wrap(snapshot, 9, 4).getInt();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(snapshot, 0, 9);
+        new DataOutputStream(bytes).writeInt(length + 3);
+        bytes.write(snapshot, 13, length);
+        bytes.write(new byte[]{1, 2, 3});
+        bytes.write(snapshot, 13 + length, snapshot.length - 13 - length);
+
+        final EmployeeCodec.Reader reader =
+                EmployeeCodec.reader(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(EMPLOYEES.subList(0, 2), reader.stream().collect(toList()));
+    }
+
+    @Test
+    public void rejectsRecordOverrunningItsLength() throws IOException {
+        final byte[] snapshot = snapshot(EMPLOYEES.subList(0, 2));
+        // shorten the first record by one byte, its string runs into the next record
+        final ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+        buffer.putInt(9, buffer.getInt(9) - 1);
+
+        final EmployeeCodec.Reader reader =
+                EmployeeCodec.reader(new DataInputStream(new ByteArrayInputStream(snapshot)));
+        try {
+            reader.read();
+            fail("record overruns its length");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("overruns"));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsNegativeLength() throws IOException {
+        final byte[] snapshot = snapshot(EMPLOYEES.subList(0, 1));
+        ByteBuffer.wrap(snapshot).putInt(9, -1);
+
+        EmployeeCodec.reader(new DataInputStream(new ByteArrayInputStream(snapshot))).read();
+    }
+
+    @Test(expected = EOFException.class)
+    public void hugeLengthHitsEndOfInput() throws IOException {
+        final byte[] snapshot = snapshot(EMPLOYEES.subList(0, 2));
+        ByteBuffer.wrap(snapshot).putInt(9, 0x7ffffff0);
+
+        EmployeeCodec.reader(new DataInputStream(new ByteArrayInputStream(snapshot))).read();
+    }
+
+    @Test
+    public void rejectsNegativeStringLength() throws IOException {
+        final byte[] snapshot = snapshot(EMPLOYEES.subList(0, 1));
+        // the first record defines an employer: tag, length, code, then its string
+        ByteBuffer.wrap(snapshot).putShort(17, (short) -2);
+
+        try {
+            EmployeeCodec.reader(new DataInputStream(new ByteArrayInputStream(snapshot))).read();
+            fail("negative string length");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("negative string length"));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void wrongMagic() throws IOException {
+        EmployeeCodec.reader(new DataInputStream(new ByteArrayInputStream(new byte[8])));
+    }
+
+    private static byte[] snapshot(List<Employee> employees) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EmployeeCodec.writer(new DataOutputStream(bytes)).writeAll(employees).finish();
+        return bytes.toByteArray();
+    }
+}
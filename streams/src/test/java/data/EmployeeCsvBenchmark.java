@@ -0,0 +1,71 @@
+package data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@link EmployeeCsv#load} against {@code Files.lines().map(split)}.
+ * The fixture size is printed on setup, divide it by the time per operation for MB/s.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class EmployeeCsvBenchmark {
+
+    @Param({"1000000"})
+    public int length;
+
+    public Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("employees", ".csv");
+        EmployeeCsv.write(file, Generator.generateEmployeeList(length));
+        System.out.printf("%nfixture: %.1f MB%n", Files.size(file) / 1e6);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public long load_seq() throws IOException {
+        try (Stream<Employee> employees = EmployeeCsv.load(file, false)) {
+            return employees.mapToInt(e -> e.getPerson().getAge()).sum();
+        }
+    }
+
+    @Benchmark
+    public long load_par() throws IOException {
+        try (Stream<Employee> employees = EmployeeCsv.load(file, true)) {
+            return employees.mapToInt(e -> e.getPerson().getAge()).sum();
+        }
+    }
+
+    @Benchmark
+    public long lines_split() throws IOException {
+        try (Stream<String> lines = Files.lines(file)) {
+            return lines.map(EmployeeCsvBenchmark::parseLine).mapToInt(e -> e.getPerson().getAge()).sum();
+        }
+    }
+
+    private static Employee parseLine(String line) {
+        final String[] fields = line.split(",", -1);
+        final List<JobHistoryEntry> history = new ArrayList<>();
+        for (int i = 3; i + 2 < fields.length; i += 3) {
+            history.add(new JobHistoryEntry(Integer.parseInt(fields[i + 2]), fields[i + 1], fields[i]));
+        }
+        return new Employee(new Person(fields[0], fields[1], Integer.parseInt(fields[2])), history);
+    }
+}
@@ -0,0 +1,116 @@
+package data;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class EmployeeCsvTest {
+
+    private static final List<Employee> EMPLOYEES = Generator.generateEmployeeList(20_000);
+    private static Path file;
+
+    @BeforeClass
+    public static void writeFixture() throws IOException {
+        file = Files.createTempFile("employees", ".csv");
+        EmployeeCsv.write(file, EMPLOYEES);
+    }
+
+    @AfterClass
+    public static void deleteFixture() throws IOException {
+        Files.delete(file);
+    }
+
+    @Test
+    public void roundTrip() throws IOException {
+        for (int chunkBytes : new int[]{1, 100, 4096, EmployeeCsv.DEFAULT_CHUNK_BYTES}) {
+            for (boolean parallel : new boolean[]{false, true}) {
+                try (Stream<Employee> employees = EmployeeCsv.load(file, parallel, chunkBytes)) {
+                    assertEquals(EMPLOYEES, employees.collect(toList()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void emptyLinesCrLfAndNulls() throws IOException {
+        final Path csv = Files.createTempFile("employees", ".csv");
+        try {
+            Files.write(csv, "\r\nJohn,Doe,30,epam,dev,2,google,,1\r\n\n,Галт,-1\n,,0,,,0"
+                    .getBytes(StandardCharsets.UTF_8));
+
+            final List<Employee> expected = Arrays.asList(
+                    new Employee(new Person("John", "Doe", 30), Arrays.asList(
+                            new JobHistoryEntry(2, "dev", "epam"),
+                            new JobHistoryEntry(1, null, "google"))),
+                    new Employee(new Person(null, "Галт", -1), Collections.emptyList()),
+                    new Employee(new Person(null, null, 0), Arrays.asList(new JobHistoryEntry(0, null, null))));
+            for (int chunkBytes : new int[]{1, 7, 1 << 20}) {
+                try (Stream<Employee> employees = EmployeeCsv.load(csv, true, chunkBytes)) {
+                    assertEquals(expected, employees.collect(toList()));
+                }
+            }
+        } finally {
+            Files.delete(csv);
+        }
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void malformedLine() throws IOException {
+        final Path csv = Files.createTempFile("employees", ".csv");
+        try {
+            Files.write(csv, "John,Doe,30,epam,dev\n".getBytes(StandardCharsets.UTF_8));
+            try (Stream<Employee> employees = EmployeeCsv.load(csv, false)) {
+                employees.count();
+            }
+        } finally {
+            Files.delete(csv);
+        }
+    }
+
+    @Test
+    public void intBounds() throws IOException {
+        assertEquals(Arrays.asList(
+                new Employee(new Person("John", "Doe", Integer.MAX_VALUE), Collections.emptyList()),
+                new Employee(new Person("Jane", "Doe", Integer.MIN_VALUE), Collections.emptyList())),
+                load("John,Doe,2147483647\nJane,Doe,-2147483648\n"));
+    }
+
+    @Test
+    public void rejectsOverflowAndLoneSign() throws IOException {
+        for (String age : new String[]{"99999999999", "2147483648", "-2147483649", "-"}) {
+            try {
+                load("John,Doe," + age + "\n");
+                fail(age + " must be rejected");
+            } catch (UncheckedIOException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains("John,Doe," + age));
+            }
+        }
+    }
+
+    private static List<Employee> load(String content) throws IOException {
+        final Path csv = Files.createTempFile("employees", ".csv");
+        try {
+            Files.write(csv, content.getBytes(StandardCharsets.UTF_8));
+            try (Stream<Employee> employees = EmployeeCsv.load(csv, false)) {
+                return employees.collect(toList());
+            }
+        } finally {
+            Files.delete(csv);
+        }
+    }
+}
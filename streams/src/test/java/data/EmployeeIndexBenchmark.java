@@ -0,0 +1,67 @@
+package data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * "Employees named J* with dev experience who worked at epam for more than a year"
+ * as a full scan against an intersection of {@link EmployeeIndex} sets.
+ * epam is a rare employer here, which is where an index pays off.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class EmployeeIndexBenchmark {
+
+    @Param({"1000000"})
+    public int length;
+
+    public List<Employee> employees;
+    public EmployeeTable table;
+    public EmployeeIndex index;
+    public int epam;
+
+    @Setup
+    public void setup() {
+        final Generator.Profile profile = Generator.Profile.DEFAULT
+                .withEmployers(new String[]{"epam", "google", "yandex", "abc"}, 1, 33, 33, 33);
+        employees = Generator.generateEmployeeList(length, Generator.DEFAULT_SEED, profile);
+        table = EmployeeTable.of(employees);
+        index = EmployeeIndex.of(table, true);
+        epam = StringDictionary.EMPLOYERS.find("epam");
+    }
+
+    @Benchmark
+    public long query_scan() {
+        return employees.stream()
+                .filter(e -> e.getPerson().getFirstName().startsWith("J"))
+                .filter(e -> e.streamJobHistory().anyMatch(j -> j.getPosition().equals("dev")))
+                .filter(e -> e.streamJobHistory().anyMatch(j -> j.getEmployer().equals("epam") && j.getDuration() > 1))
+                .count();
+    }
+
+    @Benchmark
+    public long query_index() {
+        return index.hadPosition("dev").and(index.workedAt("epam")).stream()
+                .filter(i -> table.getFirstName(i).startsWith("J"))
+                .filter(i -> IntStream.range(table.historyStart(i), table.historyEnd(i))
+                        .anyMatch(j -> table.getEmployerCode(j) == epam && table.getDuration(j) > 1))
+                .count();
+    }
+
+    @Benchmark
+    public EmployeeIndex build_seq() {
+        return EmployeeIndex.of(table, false);
+    }
+
+    @Benchmark
+    public EmployeeIndex build_par() {
+        return EmployeeIndex.of(table, true);
+    }
+}
@@ -0,0 +1,72 @@
+package data;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EmployeeIndexTest {
+
+    private static final List<Employee> EMPLOYEES = Generator.generateEmployeeList(200_000);
+    private static final EmployeeTable TABLE = EmployeeTable.of(EMPLOYEES);
+
+    private static IdSet scan(Predicate<Employee> predicate) {
+        return IdSet.of(IntStream.range(0, EMPLOYEES.size()).filter(i -> predicate.test(EMPLOYEES.get(i))).toArray());
+    }
+
+    @Test
+    public void matchesFullScan() {
+        for (boolean parallel : new boolean[]{false, true}) {
+            final EmployeeIndex index = EmployeeIndex.of(TABLE, parallel);
+            for (String employer : new String[]{"epam", "google", "yandex", "abc"}) {
+                assertEquals(scan(e -> e.streamJobHistory().anyMatch(j -> j.getEmployer().equals(employer))),
+                        index.workedAt(employer));
+                assertEquals(scan(e -> e.getJobHistory().get(0).getEmployer().equals(employer)),
+                        index.startedAt(employer));
+            }
+            for (String position : new String[]{"dev", "QA", "BA"}) {
+                assertEquals(scan(e -> e.streamJobHistory().anyMatch(j -> j.getPosition().equals(position))),
+                        index.hadPosition(position));
+            }
+            assertTrue(index.workedAt("unknown").isEmpty());
+        }
+    }
+
+    @Test
+    public void intersection() {
+        final EmployeeIndex index = EmployeeIndex.of(EMPLOYEES, true);
+
+        final int[] expected = IntStream.range(0, EMPLOYEES.size())
+                .filter(i -> EMPLOYEES.get(i).getPerson().getFirstName().startsWith("J"))
+                .filter(i -> EMPLOYEES.get(i).streamJobHistory().anyMatch(j -> j.getPosition().equals("dev")))
+                .filter(i -> EMPLOYEES.get(i).streamJobHistory()
+                        .anyMatch(j -> j.getEmployer().equals("epam") && j.getDuration() > 1))
+                .toArray();
+
+        final int epam = StringDictionary.EMPLOYERS.find("epam");
+        final int[] actual = index.hadPosition("dev").and(index.workedAt("epam")).stream()
+                .filter(i -> TABLE.getFirstName(i).startsWith("J"))
+                .filter(i -> IntStream.range(TABLE.historyStart(i), TABLE.historyEnd(i))
+                        .anyMatch(j -> TABLE.getEmployerCode(j) == epam && TABLE.getDuration(j) > 1))
+                .toArray();
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void setOperations() {
+        final IdSet a = IdSet.of(5, 1, 3, 3, 9);
+        final IdSet b = IdSet.of(3, 4, 5);
+        assertArrayEquals(new int[]{1, 3, 5, 9}, a.toArray());
+        assertEquals(IdSet.of(3, 5), a.and(b));
+        assertEquals(IdSet.of(1, 3, 4, 5, 9), a.or(b));
+        assertEquals(IdSet.of(7), IdSet.of(7).and(IdSet.of(IntStream.range(0, 1000).toArray())));
+        assertTrue(a.contains(9));
+        assertTrue(a.and(IdSet.EMPTY).isEmpty());
+    }
+}
@@ -0,0 +1,113 @@
+package data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingByConcurrent;
+
+/**
+ * Queries over a snapshot file: sequential decoding with {@link EmployeeCodec.Reader},
+ * lazy decoding from {@link EmployeeSnapshotStore} and its flyweight accessors.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class EmployeeSnapshotStoreBenchmark {
+
+    @Param({"1000000"})
+    public int length;
+
+    public Path file;
+    public EmployeeSnapshotStore store;
+    public int epam;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("employees", ".bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            EmployeeCodec.writer(channel).writeAll(Generator.generateEmployeeList(length)).finish();
+        }
+        store = EmployeeSnapshotStore.open(file);
+        epam = StringDictionary.EMPLOYERS.find("epam");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public Map<String, Long> employers_reader() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return EmployeeCodec.reader(channel).stream()
+                    .flatMap(Employee::streamJobHistory)
+                    .collect(groupingByConcurrent(JobHistoryEntry::getEmployer, counting()));
+        }
+    }
+
+    @Benchmark
+    public Map<String, Long> employers_store_seq() {
+        return store.stream(false)
+                .flatMap(Employee::streamJobHistory)
+                .collect(groupingByConcurrent(JobHistoryEntry::getEmployer, counting()));
+    }
+
+    @Benchmark
+    public Map<String, Long> employers_store_par() {
+        return store.stream(true)
+                .flatMap(Employee::streamJobHistory)
+                .collect(groupingByConcurrent(JobHistoryEntry::getEmployer, counting()));
+    }
+
+    @Benchmark
+    public long startedAtEpam_flyweight_par() {
+        return store.records()
+                .parallel()
+                .filter(i -> store.getEmployerCode(i, 0) == epam)
+                .count();
+    }
+
+    @Benchmark
+    public long epamDuration_flyweight_par() {
+        return store.records()
+                .parallel()
+                .mapToLong(i -> {
+                    final EmployeeSnapshotStore.Record record = store.record(i);
+                    long duration = 0;
+                    for (int j = 0; j < record.historyLength(); j++) {
+                        if (record.getEmployerCode(j) == epam) {
+                            duration += record.getDuration(j);
+                        }
+                    }
+                    return duration;
+                })
+                .sum();
+    }
+
+    @Benchmark
+    public long epamDuration_store_par() {
+        return store.stream(true)
+                .flatMap(Employee::streamJobHistory)
+                .filter(j -> j.getEmployerCode() == epam)
+                .mapToLong(JobHistoryEntry::getDuration)
+                .sum();
+    }
+
+    @Benchmark
+    public long startedAtEpam_store_par() {
+        return store.stream(true)
+                .filter(e -> e.getJobHistory().get(0).getEmployerCode() == epam)
+                .count();
+    }
+}
@@ -0,0 +1,203 @@
+package data;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+
+import static java.util.stream.Collectors.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class EmployeeSnapshotStoreTest {
+
+    private static final List<Employee> EMPLOYEES = Generator.generateEmployeeList(20_000);
+    private static Path file;
+
+    @BeforeClass
+    public static void writeSnapshot() throws IOException {
+        file = Files.createTempFile("employees", ".bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            EmployeeCodec.writer(channel).writeAll(EMPLOYEES).finish();
+        }
+    }
+
+    @AfterClass
+    public static void deleteSnapshot() throws IOException {
+        Files.delete(file);
+    }
+
+    @Test
+    public void decodesAllEmployees() throws IOException {
+        for (long segmentBytes : new long[]{EmployeeSnapshotStore.DEFAULT_SEGMENT_BYTES, 1 << 12}) {
+            final EmployeeSnapshotStore store = EmployeeSnapshotStore.open(file, segmentBytes);
+            assertEquals(EMPLOYEES.size(), store.size());
+            assertEquals(EMPLOYEES, store.stream(false).collect(toList()));
+            assertEquals(EMPLOYEES, store.stream(true).collect(toList()));
+        }
+    }
+
+    @Test
+    public void flyweightAccessors() throws IOException {
+        final EmployeeSnapshotStore store = EmployeeSnapshotStore.open(file, 1 << 12);
+        for (int i = 0; i < store.size(); i++) {
+            final Employee employee = EMPLOYEES.get(i);
+            assertEquals(employee.getPerson().getAge(), store.getAge(i));
+            assertEquals(employee.getPerson(), store.getPerson(i));
+            assertEquals(employee.getJobHistory().size(), store.historyLength(i));
+            for (int j = 0; j < store.historyLength(i); j++) {
+                final JobHistoryEntry entry = employee.getJobHistory().get(j);
+                assertEquals(entry.getDuration(), store.getDuration(i, j));
+                assertEquals(entry.getEmployerCode(), store.getEmployerCode(i, j));
+                assertEquals(entry.getPositionCode(), store.getPositionCode(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void recordFlyweight() throws IOException {
+        final EmployeeSnapshotStore store = EmployeeSnapshotStore.open(file, 1 << 12);
+        for (int i = 0; i < store.size(); i++) {
+            final Employee employee = EMPLOYEES.get(i);
+            final EmployeeSnapshotStore.Record record = store.record(i);
+            assertEquals(employee.getPerson().getAge(), record.getAge());
+            assertEquals(employee.getPerson(), record.getPerson());
+            assertEquals(employee.getJobHistory().size(), record.historyLength());
+            for (int j = 0; j < record.historyLength(); j++) {
+                final JobHistoryEntry entry = employee.getJobHistory().get(j);
+                assertEquals(entry.getDuration(), record.getDuration(j));
+                assertEquals(entry.getEmployerCode(), record.getEmployerCode(j));
+                assertEquals(entry.getPositionCode(), record.getPositionCode(j));
+            }
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void recordEntryOutOfBounds() throws IOException {
+        final EmployeeSnapshotStore.Record record = EmployeeSnapshotStore.open(file).record(0);
+        record.getDuration(record.historyLength());
+    }
+
+    @Test
+    public void sizedSpliterator() throws IOException {
+        final Spliterator<Employee> spliterator = EmployeeSnapshotStore.open(file).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+
+        final Spliterator<Employee> prefix = spliterator.trySplit();
+        assertEquals(EMPLOYEES.size(), prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void employersStuffListFromDisk() throws IOException {
+        final Map<String, Set<Person>> expected = EMPLOYEES.stream()
+                .flatMap(e -> e.streamJobHistory().map(j -> new PersonEmployer(e.getPerson(), j.getEmployer())))
+                .collect(groupingBy(PersonEmployer::getEmployer, mapping(PersonEmployer::getPerson, toSet())));
+
+        final EmployeeSnapshotStore store = EmployeeSnapshotStore.open(file, 1 << 16);
+        final Map<String, Set<Person>> actual = store.stream(true)
+                .flatMap(e -> e.streamJobHistory().map(j -> new PersonEmployer(e.getPerson(), j.getEmployer())))
+                .collect(groupingByConcurrent(PersonEmployer::getEmployer, mapping(PersonEmployer::getPerson, toSet())));
+
+        assertEquals(expected, actual);
+    }
+
+    private static class PersonEmployer {
+        private final Person person;
+        private final String employer;
+
+        private PersonEmployer(Person person, String employer) {
+            this.person = person;
+            this.employer = employer;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public String getEmployer() {
+            return employer;
+        }
+    }
+
+    @Test
+    public void skipsTrailingBytesOfDefinitions() throws IOException {
+        final byte[] snapshot = snapshot(EMPLOYEES.subList(0, 2));
+        // the first record defines an employer, pad its payload with 3 bytes
+        final int length = ByteBuffer.wrap(snapshot, 9, 4).getInt();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(snapshot, 0, 9);
+        new DataOutputStream(bytes).writeInt(length + 3);
+        bytes.write(snapshot, 13, length);
+        bytes.write(new byte[]{1, 2, 3});
+        bytes.write(snapshot, 13 + length, snapshot.length - 13 - length);
+
+        assertEquals(EMPLOYEES.subList(0, 2), open(bytes.toByteArray()).stream(false).collect(toList()));
+    }
+
+    @Test
+    public void rejectsDefinitionOverrunningItsLength() throws IOException {
+        final byte[] snapshot = snapshot(EMPLOYEES.subList(0, 2));
+        // shorten the first record by one byte, its string runs into the next record
+        final ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+        buffer.putInt(9, buffer.getInt(9) - 1);
+
+        try {
+            open(snapshot);
+            fail("record overruns its length");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("overruns"));
+        }
+    }
+
+    @Test
+    public void unknownRecordsLargerThanSegment() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        final EmployeeCodec.Writer writer = EmployeeCodec.writer(out);
+        for (Employee employee : EMPLOYEES.subList(0, 100)) {
+            out.writeByte(42);
+            out.writeInt(10_000);
+            out.write(new byte[10_000]);
+            writer.write(employee);
+        }
+        writer.finish();
+
+        final Path file = Files.createTempFile("employees", ".bin");
+        try {
+            Files.write(file, bytes.toByteArray());
+            final EmployeeSnapshotStore store = EmployeeSnapshotStore.open(file, 1 << 12);
+            assertEquals(EMPLOYEES.subList(0, 100), store.stream(false).collect(toList()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static byte[] snapshot(List<Employee> employees) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        EmployeeCodec.writer(new DataOutputStream(bytes)).writeAll(employees).finish();
+        return bytes.toByteArray();
+    }
+
+    private static EmployeeSnapshotStore open(byte[] snapshot) throws IOException {
+        final Path file = Files.createTempFile("employees", ".bin");
+        try {
+            Files.write(file, snapshot);
+            return EmployeeSnapshotStore.open(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Object graph against {@link EmployeeTable} scans.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class EmployeeTableBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int length;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    public List<Employee> employees;
+    public EmployeeTable table;
+    public int epam;
+
+    @Setup
+    public void setup() {
+        employees = Generator.generateEmployeeList(length);
+        table = EmployeeTable.of(employees);
+        epam = StringDictionary.EMPLOYERS.find("epam");
+    }
+
+    @Benchmark
+    public int epamDuration_objects() {
+        return (parallel ? employees.parallelStream() : employees.stream())
+                .flatMap(Employee::streamJobHistory)
+                .filter(j -> j.getEmployerCode() == epam)
+                .mapToInt(JobHistoryEntry::getDuration)
+                .sum();
+    }
+
+    @Benchmark
+    public int epamDuration_table() {
+        final EmployeeTable table = this.table;
+        final int epam = this.epam;
+        return (parallel ? table.entries().parallel() : table.entries())
+                .filter(i -> table.getEmployerCode(i) == epam)
+                .map(table::getDuration)
+                .sum();
+    }
+
+    @Benchmark
+    public double averageAge_objects() {
+        return (parallel ? employees.parallelStream() : employees.stream())
+                .mapToInt(e -> e.getPerson().getAge())
+                .average()
+                .orElse(0);
+    }
+
+    @Benchmark
+    public double averageAge_table() {
+        return (parallel ? table.ages().parallel() : table.ages())
+                .average()
+                .orElse(0);
+    }
+}
@@ -0,0 +1,61 @@
+package data;
+
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+public class EmployeeTableTest {
+
+    private static final List<Employee> EMPLOYEES = Generator.generateEmployeeList(10_000);
+    private static final EmployeeTable TABLE = EmployeeTable.of(EMPLOYEES);
+
+    @Test
+    public void roundTrip() {
+        assertEquals(EMPLOYEES.size(), TABLE.size());
+        assertEquals(EMPLOYEES, TABLE.employees().mapToObj(TABLE::getEmployee).collect(toList()));
+        assertEquals(
+                EMPLOYEES.stream().flatMap(Employee::streamJobHistory).count(),
+                TABLE.entryCount());
+    }
+
+    @Test
+    public void linkedList() {
+        final EmployeeTable table = EmployeeTable.of(new LinkedList<>(EMPLOYEES));
+        assertEquals(EMPLOYEES, table.employees().mapToObj(table::getEmployee).collect(toList()));
+    }
+
+    @Test
+    public void epamDuration() {
+        final int expected = EMPLOYEES.stream()
+                .flatMap(Employee::streamJobHistory)
+                .filter(j -> "epam".equals(j.getEmployer()))
+                .mapToInt(JobHistoryEntry::getDuration)
+                .sum();
+
+        final int epam = StringDictionary.EMPLOYERS.find("epam");
+        assertEquals(expected, TABLE.entries()
+                .parallel()
+                .filter(i -> TABLE.getEmployerCode(i) == epam)
+                .map(TABLE::getDuration)
+                .sum());
+    }
+
+    @Test
+    public void columns() {
+        assertEquals(EMPLOYEES.stream().mapToInt(e -> e.getPerson().getAge()).sum(), TABLE.ages().parallel().sum());
+        assertEquals(TABLE.entryCount(), TABLE.durationsSpliterator().getExactSizeIfKnown());
+
+        for (int i = 0; i < TABLE.size(); i++) {
+            final int employee = i;
+            assertEquals(TABLE.historyEnd(i) - TABLE.historyStart(i),
+                    IntStream.range(TABLE.historyStart(i), TABLE.historyEnd(i))
+                            .filter(entry -> TABLE.getOwner(entry) == employee)
+                            .count());
+        }
+    }
+}
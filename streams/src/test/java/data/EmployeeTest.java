@@ -0,0 +1,45 @@
+package data;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class EmployeeTest {
+
+    private static final List<JobHistoryEntry> HISTORY = Arrays.asList(
+            new JobHistoryEntry(2, "dev", "epam"),
+            new JobHistoryEntry(1, "QA", "google"));
+
+    @Test
+    public void jobHistoryIsSharedView() {
+        final Employee employee = new Employee(new Person("John", "Doe", 30), HISTORY);
+
+        assertSame(employee.getJobHistory(), employee.getJobHistory());
+        assertEquals(HISTORY, employee.getJobHistory());
+        assertEquals(HISTORY, employee.streamJobHistory().collect(toList()));
+
+        final List<JobHistoryEntry> visited = new ArrayList<>();
+        employee.forEachJobHistory(visited::add);
+        assertEquals(HISTORY, visited);
+    }
+
+    @Test
+    public void constructorCopiesHistory() {
+        final List<JobHistoryEntry> history = new ArrayList<>(HISTORY);
+        final Employee employee = new Employee(new Person("John", "Doe", 30), history);
+        history.clear();
+
+        assertEquals(HISTORY, employee.getJobHistory());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void jobHistoryIsReadOnly() {
+        new Employee(new Person("John", "Doe", 30), HISTORY).getJobHistory().clear();
+    }
+}
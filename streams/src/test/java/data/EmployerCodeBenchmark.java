@@ -0,0 +1,73 @@
+package data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * String against dictionary code predicates and grouping over job history entries.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class EmployerCodeBenchmark {
+
+    @Param({"1000000"})
+    public int length;
+
+    public List<JobHistoryEntry> entries;
+    public int epam;
+
+    @Setup
+    public void setup() {
+        entries = Generator.employees(length / 5, Generator.DEFAULT_SEED, Generator.Profile.DEFAULT, false)
+                .flatMap(Employee::streamJobHistory)
+                .collect(toList());
+        epam = StringDictionary.EMPLOYERS.find("epam");
+    }
+
+    @Benchmark
+    public long epamDuration_string() {
+        long res = 0;
+        for (JobHistoryEntry e : entries) {
+            if ("epam".equals(e.getEmployer())) {
+                res += e.getDuration();
+            }
+        }
+        return res;
+    }
+
+    @Benchmark
+    public long epamDuration_code() {
+        long res = 0;
+        for (JobHistoryEntry e : entries) {
+            if (e.getEmployerCode() == epam) {
+                res += e.getDuration();
+            }
+        }
+        return res;
+    }
+
+    @Benchmark
+    public Map<String, Long> byEmployer_groupingBy() {
+        return entries.stream().collect(groupingBy(JobHistoryEntry::getEmployer, counting()));
+    }
+
+    @Benchmark
+    public long[] byEmployer_code() {
+        final long[] counts = new long[StringDictionary.EMPLOYERS.size()];
+        for (JobHistoryEntry e : entries) {
+            counts[e.getEmployerCode()]++;
+        }
+        return counts;
+    }
+}
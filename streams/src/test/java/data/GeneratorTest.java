@@ -0,0 +1,55 @@
+package data;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratorTest {
+
+    @Test
+    public void sameSeedSameEmployees() {
+        final List<Employee> list = Generator.generateEmployeeList(10_000, 7, Generator.Profile.DEFAULT);
+
+        assertEquals(list, Generator.employees(10_000, 7, Generator.Profile.DEFAULT, false).collect(toList()));
+        assertEquals(list, Generator.employees(10_000, 7, Generator.Profile.DEFAULT, true).collect(toList()));
+        assertTrue(!list.equals(Generator.generateEmployeeList(10_000, 8, Generator.Profile.DEFAULT)));
+    }
+
+    @Test
+    public void profile() {
+        final Generator.Profile profile = Generator.Profile.DEFAULT
+                .withEmployers(new String[]{"epam", "google", "never"}, 3, 1, 0)
+                .withPositions(new String[]{"dev"}, 1)
+                .withHistoryLengths(0, 0, 1)
+                .withMaxDuration(2);
+
+        final List<JobHistoryEntry> entries = Generator.employees(100_000, 1, profile, true)
+                .peek(e -> assertEquals(3, e.getJobHistory().size()))
+                .flatMap(e -> e.getJobHistory().stream())
+                .peek(e -> assertEquals("dev", e.getPosition()))
+                .peek(e -> assertTrue(e.getDuration() == 1 || e.getDuration() == 2))
+                .collect(toList());
+
+        final Map<String, Long> byEmployer = entries.stream()
+                .collect(groupingBy(JobHistoryEntry::getEmployer, counting()));
+        assertEquals(2, byEmployer.size());
+        final double epamShare = (double) byEmployer.get("epam") / entries.size();
+        assertEquals(0.75, epamShare, 0.01);
+    }
+
+    @Test
+    public void strings() {
+        for (int i = 0; i < 1000; i++) {
+            final String s = Generator.generateString();
+            assertTrue(s, s.length() >= 1 && s.length() <= 10);
+            assertTrue(s, "ABCDEFGHIJ".startsWith(s));
+        }
+    }
+}
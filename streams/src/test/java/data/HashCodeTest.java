@@ -0,0 +1,44 @@
+package data;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class HashCodeTest {
+
+    @Test
+    public void sameHashAsObjectsHash() {
+        for (Employee employee : Generator.generateEmployeeList(1000)) {
+            final Person p = employee.getPerson();
+            assertEquals(Objects.hash(p.getFirstName(), p.getLastName(), p.getAge()), p.hashCode());
+
+            for (JobHistoryEntry j : employee.getJobHistory()) {
+                assertEquals(Objects.hash(j.getDuration(), j.getPosition(), j.getEmployer()), j.hashCode());
+            }
+
+            assertEquals(Objects.hash(p, employee.getJobHistory()), employee.hashCode());
+        }
+    }
+
+    @Test
+    public void nullFields() {
+        assertEquals(Objects.hash(null, null, 0), new Person(null, null, 0).hashCode());
+        assertEquals(new Person(null, "Doe", 1), new Person(null, "Doe", 1));
+        assertEquals(Objects.hash(1, null, null), new JobHistoryEntry(1, null, null).hashCode());
+    }
+
+    @Test
+    public void equality() {
+        final List<JobHistoryEntry> history = Arrays.asList(new JobHistoryEntry(1, "dev", "epam"));
+        final Employee employee = new Employee(new Person("John", "Doe", 30), history);
+
+        assertEquals(employee, new Employee(new Person("John", "Doe", 30), history));
+        assertNotEquals(employee, new Employee(new Person("John", "Doe", 31), history));
+        assertNotEquals(employee, employee.withJobHistory(Arrays.asList(new JobHistoryEntry(2, "dev", "epam"))));
+    }
+}
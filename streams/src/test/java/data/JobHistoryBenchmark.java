@@ -0,0 +1,89 @@
+package data;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query shapes of StreamsExample / Filtering over the job history.
+ * The *_copy variants reproduce the old defensive copy in {@link Employee#getJobHistory()};
+ * run with {@code -prof gc} to compare allocation rates.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class JobHistoryBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int length;
+
+    public List<Employee> employees;
+
+    @Setup
+    public void setup() {
+        employees = Generator.generateEmployeeList(length);
+    }
+
+    private static List<JobHistoryEntry> copy(Employee e) {
+        return new ArrayList<>(e.getJobHistory());
+    }
+
+    @Benchmark
+    public long hasDevExperience_copy() {
+        return employees.stream()
+                .filter(e -> copy(e).stream().anyMatch(j -> j.getPosition().equals("dev")))
+                .count();
+    }
+
+    @Benchmark
+    public long hasDevExperience_view() {
+        return employees.stream()
+                .filter(e -> e.getJobHistory().stream().anyMatch(j -> j.getPosition().equals("dev")))
+                .count();
+    }
+
+    @Benchmark
+    public long hasDevExperience_loop() {
+        long res = 0;
+        for (Employee e : employees) {
+            for (JobHistoryEntry j : e.getJobHistory()) {
+                if (j.getPosition().equals("dev")) {
+                    res++;
+                    break;
+                }
+            }
+        }
+        return res;
+    }
+
+    @Benchmark
+    public int totalDuration_copy() {
+        return employees.stream()
+                .flatMap(e -> copy(e).stream())
+                .mapToInt(JobHistoryEntry::getDuration)
+                .sum();
+    }
+
+    @Benchmark
+    public int totalDuration_stream() {
+        return employees.stream()
+                .flatMap(Employee::streamJobHistory)
+                .mapToInt(JobHistoryEntry::getDuration)
+                .sum();
+    }
+
+    @Benchmark
+    public void totalDuration_forEach(Blackhole bh) {
+        final int[] sum = {0};
+        for (Employee e : employees) {
+            e.forEachJobHistory(j -> sum[0] += j.getDuration());
+        }
+        bh.consume(sum[0]);
+    }
+}
@@ -0,0 +1,103 @@
+package data;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * HashSet build and lookup with the cached {@link Person#hashCode()}
+ * against a copy of Person that still hashes with {@code Objects.hash} on every call.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class PersonHashSetBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int length;
+
+    public List<Person> persons;
+    public List<UncachedPerson> uncachedPersons;
+    public Set<Person> personSet;
+    public Set<UncachedPerson> uncachedPersonSet;
+
+    @Setup
+    public void setup() {
+        persons = Generator.employees(length, Generator.DEFAULT_SEED, Generator.Profile.DEFAULT, false)
+                .map(Employee::getPerson)
+                .collect(toList());
+        uncachedPersons = persons.stream()
+                .map(p -> new UncachedPerson(p.getFirstName(), p.getLastName(), p.getAge()))
+                .collect(toList());
+        personSet = new HashSet<>(persons);
+        uncachedPersonSet = new HashSet<>(uncachedPersons);
+    }
+
+    @Benchmark
+    public Set<Person> build_cached() {
+        return new HashSet<>(persons);
+    }
+
+    @Benchmark
+    public Set<UncachedPerson> build_uncached() {
+        return new HashSet<>(uncachedPersons);
+    }
+
+    @Benchmark
+    public int lookup_cached() {
+        int res = 0;
+        for (Person p : persons) {
+            if (personSet.contains(p)) {
+                res++;
+            }
+        }
+        return res;
+    }
+
+    @Benchmark
+    public int lookup_uncached() {
+        int res = 0;
+        for (UncachedPerson p : uncachedPersons) {
+            if (uncachedPersonSet.contains(p)) {
+                res++;
+            }
+        }
+        return res;
+    }
+
+    public static class UncachedPerson {
+        private final String firstName;
+        private final String lastName;
+        private final int age;
+
+        public UncachedPerson(String firstName, String lastName, int age) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.age = age;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            UncachedPerson person = (UncachedPerson) o;
+            return age == person.age &&
+                    Objects.equals(firstName, person.firstName) &&
+                    Objects.equals(lastName, person.lastName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(firstName, lastName, age);
+        }
+    }
+}
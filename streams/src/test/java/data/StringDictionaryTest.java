@@ -0,0 +1,55 @@
+package data;
+
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class StringDictionaryTest {
+
+    @Test
+    public void denseCodes() {
+        final StringDictionary dictionary = new StringDictionary();
+        assertEquals(0, dictionary.encode("epam"));
+        assertEquals(1, dictionary.encode("google"));
+        assertEquals(0, dictionary.encode(new String("epam")));
+        assertEquals(2, dictionary.size());
+
+        assertEquals(StringDictionary.NULL_CODE, dictionary.encode(null));
+        assertNull(dictionary.decode(StringDictionary.NULL_CODE));
+        assertEquals(StringDictionary.NULL_CODE, dictionary.find("yandex"));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void canonicalInstances() {
+        final StringDictionary dictionary = new StringDictionary();
+        final String epam = dictionary.canonical("epam");
+        assertSame(epam, dictionary.canonical(new String("epam")));
+
+        final JobHistoryEntry first = new JobHistoryEntry(1, new String("dev"), new String("epam"));
+        final JobHistoryEntry second = new JobHistoryEntry(2, new String("dev"), new String("epam"));
+        assertSame(first.getEmployer(), second.getEmployer());
+        assertEquals(StringDictionary.EMPLOYERS.encode("epam"), first.getEmployerCode());
+        assertEquals(first, second.withDuration(1));
+    }
+
+    @Test
+    public void concurrentEncoding() {
+        final StringDictionary dictionary = new StringDictionary();
+        final int[] codes = IntStream.range(0, 100_000)
+                .parallel()
+                .map(i -> dictionary.encode("value" + i % 1000))
+                .toArray();
+
+        assertEquals(1000, dictionary.size());
+        for (int i = 0; i < codes.length; i++) {
+            assertEquals("value" + i % 1000, dictionary.decode(codes[i]));
+        }
+        assertTrue(IntStream.of(codes).allMatch(c -> c >= 0 && c < 1000));
+    }
+}
@@ -0,0 +1,121 @@
+package forkjoinpool;
+
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Parallel {@code dst[i] = f(src[i])} into a preallocated destination ({@code dst} may be {@code src}).
+ * Built on {@link CountedCompleter}: a task splits off right halves until its range is a leaf,
+ * maps the leaf and completes; nobody waits in {@code join()} and no per-task result is allocated.
+ */
+public class ParallelArrayMapper {
+
+    private ParallelArrayMapper() {
+    }
+
+    public static void map(int[] src, int[] dst, IntUnaryOperator f) {
+        map(ForkJoinPool.commonPool(), src, dst, f);
+    }
+
+    public static void map(ForkJoinPool pool, int[] src, int[] dst, IntUnaryOperator f) {
+        checkLength(src.length, dst.length);
+        pool.invoke(new IntMapTask(null, src, dst, 0, src.length, leafSize(src.length, pool), f));
+    }
+
+    public static <T, R> void map(T[] src, R[] dst, Function<? super T, ? extends R> f) {
+        map(ForkJoinPool.commonPool(), src, dst, f);
+    }
+
+    public static <T, R> void map(ForkJoinPool pool, T[] src, R[] dst, Function<? super T, ? extends R> f) {
+        checkLength(src.length, dst.length);
+        pool.invoke(new MapTask<>(null, src, dst, 0, src.length, leafSize(src.length, pool), f));
+    }
+
+    private static void checkLength(int srcLength, int dstLength) {
+        if (dstLength < srcLength) {
+            throw new IllegalArgumentException("destination is shorter than source: " + dstLength + " < " + srcLength);
+        }
+    }
+
+    private static int leafSize(int length, ForkJoinPool pool) {
+        return Math.max(1 << 10, length / (pool.getParallelism() * ParallelReducer.LEAVES_PER_WORKER));
+    }
+
+    private static class IntMapTask extends CountedCompleter<Void> {
+        private final int[] src;
+        private final int[] dst;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final IntUnaryOperator f;
+
+        private IntMapTask(CountedCompleter<?> parent, int[] src, int[] dst, int from, int to, int leafSize,
+                           IntUnaryOperator f) {
+            super(parent);
+            this.src = src;
+            this.dst = dst;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.f = f;
+        }
+
+        @Override
+        public void compute() {
+            int hi = to;
+            while (hi - from > leafSize) {
+                final int mid = (from + hi) >>> 1;
+                addToPendingCount(1);
+                new IntMapTask(this, src, dst, mid, hi, leafSize, f).fork();
+                hi = mid;
+            }
+
+            final int[] src = this.src;
+            final int[] dst = this.dst;
+            for (int i = from; i < hi; i++) {
+                dst[i] = f.applyAsInt(src[i]);
+            }
+            tryComplete();
+        }
+    }
+
+    private static class MapTask<T, R> extends CountedCompleter<Void> {
+        private final T[] src;
+        private final R[] dst;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final Function<? super T, ? extends R> f;
+
+        private MapTask(CountedCompleter<?> parent, T[] src, R[] dst, int from, int to, int leafSize,
+                        Function<? super T, ? extends R> f) {
+            super(parent);
+            this.src = src;
+            this.dst = dst;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.f = f;
+        }
+
+        @Override
+        public void compute() {
+            int hi = to;
+            while (hi - from > leafSize) {
+                final int mid = (from + hi) >>> 1;
+                addToPendingCount(1);
+                new MapTask<>(this, src, dst, mid, hi, leafSize, f).fork();
+                hi = mid;
+            }
+
+            final T[] src = this.src;
+            final R[] dst = this.dst;
+            for (int i = from; i < hi; i++) {
+                dst[i] = f.apply(src[i]);
+            }
+            tryComplete();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package forkjoinpool;
+
+import data.Generator;
+import data.JobHistoryEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class ParallelArrayMapperBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    public int length;
+
+    public int[] ints;
+    public int[] intsDst;
+    public JobHistoryEntry[] entries;
+    public JobHistoryEntry[] entriesDst;
+
+    @Setup
+    public void setup() {
+        ints = new int[length];
+        Arrays.setAll(ints, i -> ThreadLocalRandom.current().nextInt());
+        intsDst = new int[length];
+
+        entries = new JobHistoryEntry[length];
+        Arrays.setAll(entries, i -> Generator.generateJobHistoryEntry());
+        entriesDst = new JobHistoryEntry[length];
+    }
+
+    private static int mix(int value) {
+        return value * 31 + (value >>> 7);
+    }
+
+    private static JobHistoryEntry extend(JobHistoryEntry entry) {
+        return entry.withDuration(entry.getDuration() + 1);
+    }
+
+    @Benchmark
+    public int[] int_setAll() {
+        Arrays.parallelSetAll(intsDst, i -> mix(ints[i]));
+        return intsDst;
+    }
+
+    @Benchmark
+    public int[] int_range_par() {
+        IntStream.range(0, length).parallel().forEach(i -> intsDst[i] = mix(ints[i]));
+        return intsDst;
+    }
+
+    @Benchmark
+    public int[] int_mapper() {
+        ParallelArrayMapper.map(ints, intsDst, ParallelArrayMapperBenchmark::mix);
+        return intsDst;
+    }
+
+    @Benchmark
+    public JobHistoryEntry[] entry_setAll() {
+        Arrays.parallelSetAll(entriesDst, i -> extend(entries[i]));
+        return entriesDst;
+    }
+
+    @Benchmark
+    public JobHistoryEntry[] entry_range_par() {
+        IntStream.range(0, length).parallel().forEach(i -> entriesDst[i] = extend(entries[i]));
+        return entriesDst;
+    }
+
+    @Benchmark
+    public JobHistoryEntry[] entry_mapper() {
+        ParallelArrayMapper.map(entries, entriesDst, ParallelArrayMapperBenchmark::extend);
+        return entriesDst;
+    }
+}
@@ -0,0 +1,58 @@
+package forkjoinpool;
+
+import data.Employee;
+import data.JobHistoryEntry;
+import data.Person;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class ParallelArrayMapperTest {
+
+    @Test
+    public void mapInts() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        for (int length : new int[]{0, 1, 1025, 1_000_003}) {
+            final int[] src = new Random(length).ints(length).toArray();
+            final int[] dst = new int[length];
+
+            ParallelArrayMapper.map(pool, src, dst, x -> x * 3 + 1);
+
+            assertArrayEquals(Arrays.stream(src).map(x -> x * 3 + 1).toArray(), dst);
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void mapInPlace() {
+        final int[] data = new Random(0).ints(100_000).toArray();
+        final int[] expected = Arrays.stream(data).map(x -> -x).toArray();
+
+        ParallelArrayMapper.map(data, data, x -> -x);
+
+        assertArrayEquals(expected, data);
+    }
+
+    @Test
+    public void mapEmployees() {
+        final Employee[] employees = new Employee[10_000];
+        Arrays.setAll(employees, i -> new Employee(new Person("John", "Doe", i),
+                Collections.singletonList(new JobHistoryEntry(i % 10, "dev", "epam"))));
+        final Employee[] dst = new Employee[employees.length];
+
+        ParallelArrayMapper.map(employees, dst, e -> e.withJobHistory(e.getJobHistory().stream()
+                .map(j -> j.withDuration(j.getDuration() + 1))
+                .collect(Collectors.toList())));
+
+        for (int i = 0; i < employees.length; i++) {
+            assertArrayEquals(new Object[]{new JobHistoryEntry(i % 10 + 1, "dev", "epam")},
+                    dst[i].getJobHistory().toArray());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package forkjoinpool;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Parallel counting of small int keys, e.g. ages or bucket numbers.
+ * Every leaf counts into its own array and the arrays are summed up the task tree,
+ * so workers never touch a shared counter.
+ */
+public class ParallelHistogram {
+
+    private ParallelHistogram() {
+    }
+
+    /**
+     * Counts occurrences of every key in {@code [0, buckets)}. Keys outside the range are ignored.
+     */
+    public static long[] histogram(ForkJoinPool pool, int[] keys, int buckets) {
+        return histogram(pool, keys, IntUnaryOperator.identity(), buckets);
+    }
+
+    /**
+     * Counts {@code bucketOf(key)} for every key, e.g. {@code age -> age / 10}.
+     * Buckets outside {@code [0, buckets)} are ignored.
+     */
+    public static long[] histogram(ForkJoinPool pool, int[] keys, IntUnaryOperator bucketOf, int buckets) {
+        if (buckets < 0) {
+            throw new IllegalArgumentException("buckets: " + buckets);
+        }
+        final int leafSize = ParallelReducer.leafSize(keys.length, pool.getParallelism());
+        return pool.invoke(new HistogramTask(keys, 0, keys.length, leafSize, bucketOf, buckets));
+    }
+
+    private static class HistogramTask extends RecursiveTask<long[]> {
+        private final int[] keys;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final IntUnaryOperator bucketOf;
+        private final int buckets;
+
+        private HistogramTask(int[] keys, int from, int to, int leafSize, IntUnaryOperator bucketOf, int buckets) {
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.bucketOf = bucketOf;
+            this.buckets = buckets;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= leafSize) {
+                final long[] counts = new long[buckets];
+                for (int i = from; i < to; i++) {
+                    final int bucket = bucketOf.applyAsInt(keys[i]);
+                    if (bucket >= 0 && bucket < buckets) {
+                        counts[bucket]++;
+                    }
+                }
+                return counts;
+            }
+
+            final int mid = (from + to) >>> 1;
+            final HistogramTask left = new HistogramTask(keys, from, mid, leafSize, bucketOf, buckets);
+            left.fork();
+            final long[] res = new HistogramTask(keys, mid, to, leafSize, bucketOf, buckets).compute();
+            final long[] leftCounts = left.join();
+            for (int i = 0; i < buckets; i++) {
+                res[i] += leftCounts[i];
+            }
+            return res;
+        }
+    }
+}
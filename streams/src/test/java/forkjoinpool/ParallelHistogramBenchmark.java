@@ -0,0 +1,88 @@
+package forkjoinpool;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class ParallelHistogramBenchmark {
+    private static final int MAX_AGE = 100;
+
+    @Param({"1000000", "10000000"})
+    public int length;
+
+    public ForkJoinPool pool;
+
+    public int[] ages;
+    // (age << 32 | id) composite keys
+    public long[] keys;
+    public long[] sorted;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        pool = new ForkJoinPool();
+        final SplittableRandom random = new SplittableRandom(42);
+        ages = random.ints(length, 0, MAX_AGE).toArray();
+        keys = new long[length];
+        Arrays.setAll(keys, i -> (long) ages[i] << 32 | i);
+        // shuffle ids so the keys come in no particular order
+        for (int i = length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final long tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+        sorted = new long[length];
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        System.arraycopy(keys, 0, sorted, 0, length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> histogram_groupingBy_par() {
+        return Arrays.stream(ages)
+                .parallel()
+                .boxed()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    @Benchmark
+    public long[] histogram_fjp() {
+        return ParallelHistogram.histogram(pool, ages, MAX_AGE);
+    }
+
+    @Benchmark
+    public long[] histogram_decades_fjp() {
+        return ParallelHistogram.histogram(pool, ages, age -> age / 10, MAX_AGE / 10);
+    }
+
+    @Benchmark
+    public long[] sort_parallelSort() {
+        Arrays.parallelSort(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public long[] sort_sampleSort() {
+        ParallelSampleSort.sort(pool, sorted);
+        return sorted;
+    }
+}
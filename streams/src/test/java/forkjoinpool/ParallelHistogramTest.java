@@ -0,0 +1,63 @@
+package forkjoinpool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class ParallelHistogramTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+    private static final int[] LENGTHS = {0, 1, 2, ParallelReducer.MIN_LEAF_SIZE + 1, 1_000_003};
+
+    @AfterClass
+    public static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void histogram() {
+        for (int length : LENGTHS) {
+            final int[] ages = new Random(length).ints(length, -5, 105).toArray();
+
+            final long[] expected = new long[100];
+            final long[] expectedDecades = new long[10];
+            for (int age : ages) {
+                if (age >= 0 && age < 100) {
+                    expected[age]++;
+                    expectedDecades[age / 10]++;
+                }
+            }
+
+            assertArrayEquals(expected, ParallelHistogram.histogram(POOL, ages, 100));
+            assertArrayEquals(expectedDecades, ParallelHistogram.histogram(POOL, ages, age -> Math.floorDiv(age, 10), 10));
+        }
+    }
+
+    @Test
+    public void sampleSort() {
+        final int[] lengths = {0, 1, ParallelSampleSort.SEQUENTIAL_THRESHOLD + 1, 1_000_003};
+        for (int length : lengths) {
+            final Random random = new Random(length);
+            final long[] composite = new long[length];
+            for (int i = 0; i < length; i++) {
+                composite[i] = (long) random.nextInt(100) << 32 | random.nextInt(Integer.MAX_VALUE);
+            }
+            checkSort(composite);
+            checkSort(random.longs(length).toArray());
+            // heavy duplicates
+            checkSort(random.longs(length, 0, 3).toArray());
+        }
+    }
+
+    private static void checkSort(long[] data) {
+        final long[] expected = data.clone();
+        Arrays.sort(expected);
+        ParallelSampleSort.sort(POOL, data);
+        assertArrayEquals(expected, data);
+    }
+}
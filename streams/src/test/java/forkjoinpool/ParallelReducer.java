@@ -0,0 +1,176 @@
+package forkjoinpool;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Fork/join reduction of primitive arrays with an associative operator.
+ * Each level forks the left half and computes the right half in the current thread,
+ * results are kept in primitive fields, so nothing is boxed.
+ * Partial results are always combined left to right, the operator doesn't have to be commutative.
+ */
+public class ParallelReducer {
+    public static final int MIN_LEAF_SIZE = 1 << 13;
+    // leaves per worker, leaves some slack for work stealing to balance uneven workers
+    public static final int LEAVES_PER_WORKER = 8;
+
+    private ParallelReducer() {
+    }
+
+    /**
+     * Leaf size such that every worker of the pool gets a few leaves, but not smaller than {@link #MIN_LEAF_SIZE}.
+     */
+    public static int leafSize(int length, int parallelism) {
+        return Math.max(MIN_LEAF_SIZE, length / (Math.max(1, parallelism) * LEAVES_PER_WORKER));
+    }
+
+    public static int reduce(int[] data, int identity, IntBinaryOperator op) {
+        return reduce(ForkJoinPool.commonPool(), data, identity, op);
+    }
+
+    public static int reduce(ForkJoinPool pool, int[] data, int identity, IntBinaryOperator op) {
+        final IntTask task = new IntTask(data, 0, data.length, leafSize(data.length, pool.getParallelism()), identity, op);
+        pool.invoke(task);
+        return task.result;
+    }
+
+    public static long reduce(long[] data, long identity, LongBinaryOperator op) {
+        return reduce(ForkJoinPool.commonPool(), data, identity, op);
+    }
+
+    public static long reduce(ForkJoinPool pool, long[] data, long identity, LongBinaryOperator op) {
+        final LongTask task = new LongTask(data, 0, data.length, leafSize(data.length, pool.getParallelism()), identity, op);
+        pool.invoke(task);
+        return task.result;
+    }
+
+    public static double reduce(double[] data, double identity, DoubleBinaryOperator op) {
+        return reduce(ForkJoinPool.commonPool(), data, identity, op);
+    }
+
+    public static double reduce(ForkJoinPool pool, double[] data, double identity, DoubleBinaryOperator op) {
+        final DoubleTask task = new DoubleTask(data, 0, data.length, leafSize(data.length, pool.getParallelism()), identity, op);
+        pool.invoke(task);
+        return task.result;
+    }
+
+    private static class IntTask extends RecursiveAction {
+        private final int[] data;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final int identity;
+        private final IntBinaryOperator op;
+        private int result;
+
+        private IntTask(int[] data, int from, int to, int leafSize, int identity, IntBinaryOperator op) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.identity = identity;
+            this.op = op;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                int res = identity;
+                for (int i = from; i < to; i++) {
+                    res = op.applyAsInt(res, data[i]);
+                }
+                result = res;
+                return;
+            }
+
+            final int mid = (from + to) >>> 1;
+            final IntTask left = new IntTask(data, from, mid, leafSize, identity, op);
+            final IntTask right = new IntTask(data, mid, to, leafSize, identity, op);
+            left.fork();
+            right.compute();
+            left.join();
+            result = op.applyAsInt(left.result, right.result);
+        }
+    }
+
+    private static class LongTask extends RecursiveAction {
+        private final long[] data;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final long identity;
+        private final LongBinaryOperator op;
+        private long result;
+
+        private LongTask(long[] data, int from, int to, int leafSize, long identity, LongBinaryOperator op) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.identity = identity;
+            this.op = op;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                long res = identity;
+                for (int i = from; i < to; i++) {
+                    res = op.applyAsLong(res, data[i]);
+                }
+                result = res;
+                return;
+            }
+
+            final int mid = (from + to) >>> 1;
+            final LongTask left = new LongTask(data, from, mid, leafSize, identity, op);
+            final LongTask right = new LongTask(data, mid, to, leafSize, identity, op);
+            left.fork();
+            right.compute();
+            left.join();
+            result = op.applyAsLong(left.result, right.result);
+        }
+    }
+
+    private static class DoubleTask extends RecursiveAction {
+        private final double[] data;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final double identity;
+        private final DoubleBinaryOperator op;
+        private double result;
+
+        private DoubleTask(double[] data, int from, int to, int leafSize, double identity, DoubleBinaryOperator op) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.identity = identity;
+            this.op = op;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                double res = identity;
+                for (int i = from; i < to; i++) {
+                    res = op.applyAsDouble(res, data[i]);
+                }
+                result = res;
+                return;
+            }
+
+            final int mid = (from + to) >>> 1;
+            final DoubleTask left = new DoubleTask(data, from, mid, leafSize, identity, op);
+            final DoubleTask right = new DoubleTask(data, mid, to, leafSize, identity, op);
+            left.fork();
+            right.compute();
+            left.join();
+            result = op.applyAsDouble(left.result, right.result);
+        }
+    }
+}
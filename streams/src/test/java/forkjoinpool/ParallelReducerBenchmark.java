@@ -0,0 +1,94 @@
+package forkjoinpool;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Fork(value = 1, jvmArgsAppend = "-Xmx10g")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class ParallelReducerBenchmark {
+
+    @Param({"1000", "1000000", "100000000", "1000000000"})
+    public int length;
+
+    @Param({"int", "long", "double"})
+    public String type;
+
+    public int[] ints;
+    public long[] longs;
+    public double[] doubles;
+
+    @Setup
+    public void setup() {
+        switch (type) {
+            case "int":
+                ints = new int[length];
+                Arrays.setAll(ints, i -> ThreadLocalRandom.current().nextInt(100));
+                break;
+            case "long":
+                longs = new long[length];
+                Arrays.setAll(longs, i -> ThreadLocalRandom.current().nextLong(100));
+                break;
+            default:
+                doubles = new double[length];
+                Arrays.setAll(doubles, i -> ThreadLocalRandom.current().nextDouble());
+        }
+    }
+
+    @Benchmark
+    public double sequential() {
+        switch (type) {
+            case "int": {
+                int res = 0;
+                for (int value : ints) {
+                    res += value;
+                }
+                return res;
+            }
+            case "long": {
+                long res = 0;
+                for (long value : longs) {
+                    res += value;
+                }
+                return res;
+            }
+            default: {
+                double res = 0;
+                for (double value : doubles) {
+                    res += value;
+                }
+                return res;
+            }
+        }
+    }
+
+    @Benchmark
+    public double stream_par() {
+        switch (type) {
+            case "int":
+                return Arrays.stream(ints).parallel().sum();
+            case "long":
+                return Arrays.stream(longs).parallel().sum();
+            default:
+                return Arrays.stream(doubles).parallel().reduce(0, Double::sum);
+        }
+    }
+
+    @Benchmark
+    public double reducer() {
+        switch (type) {
+            case "int":
+                return ParallelReducer.reduce(ints, 0, Integer::sum);
+            case "long":
+                return ParallelReducer.reduce(longs, 0, Long::sum);
+            default:
+                return ParallelReducer.reduce(doubles, 0, Double::sum);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package forkjoinpool;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelReducerTest {
+
+    private static final int[] LENGTHS = {0, 1, 2, ParallelReducer.MIN_LEAF_SIZE + 1, 1_000_003};
+
+    @Test
+    public void reduceInts() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        for (int length : LENGTHS) {
+            final int[] data = new Random(length).ints(length).toArray();
+
+            assertEquals(Arrays.stream(data).sum(), ParallelReducer.reduce(pool, data, 0, Integer::sum));
+            assertEquals(Arrays.stream(data).min().orElse(Integer.MAX_VALUE),
+                    ParallelReducer.reduce(pool, data, Integer.MAX_VALUE, Math::min));
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void reduceLongs() {
+        for (int length : LENGTHS) {
+            final long[] data = new Random(length).longs(length).toArray();
+
+            assertEquals(Arrays.stream(data).sum(), ParallelReducer.reduce(data, 0, Long::sum));
+            assertEquals(Arrays.stream(data).max().orElse(Long.MIN_VALUE),
+                    ParallelReducer.reduce(data, Long.MIN_VALUE, Math::max));
+        }
+    }
+
+    @Test
+    public void reduceDoubles() {
+        for (int length : LENGTHS) {
+            // whole numbers keep the sum exact in any order
+            final double[] data = new Random(length).ints(length, -1000, 1000).asDoubleStream().toArray();
+
+            assertEquals(Arrays.stream(data).sum(), ParallelReducer.reduce(data, 0, Double::sum), 0);
+        }
+    }
+
+    @Test
+    public void leafSize() {
+        assertEquals(ParallelReducer.MIN_LEAF_SIZE, ParallelReducer.leafSize(1000, 8));
+        assertEquals(1_000_000_000 / 64, ParallelReducer.leafSize(1_000_000_000, 8));
+    }
+}
@@ -0,0 +1,113 @@
+package forkjoinpool;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parallel sample sort of {@code long[]}, e.g. composite keys like {@code (long) employer << 32 | age}.
+ *
+ * <ol>
+ * <li>A random sample gives {@code buckets - 1} splitters.</li>
+ * <li>Every block of the input counts its elements per bucket.</li>
+ * <li>Offsets of every (bucket, block) pair are a prefix sum of those counts,
+ * so every block scatters its elements into a buffer without synchronization.</li>
+ * <li>Buckets are sorted independently and copied back.</li>
+ * </ol>
+ */
+public class ParallelSampleSort {
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+    private static final int OVERSAMPLING = 32;
+
+    private ParallelSampleSort() {
+    }
+
+    public static void sort(ForkJoinPool pool, long[] data) {
+        if (data.length <= SEQUENTIAL_THRESHOLD || pool.getParallelism() == 1) {
+            Arrays.sort(data);
+            return;
+        }
+
+        final int buckets = pool.getParallelism() * 4;
+        final long[] splitters = splitters(data, buckets);
+
+        final int blockSize = ParallelReducer.leafSize(data.length, pool.getParallelism());
+        final int blocks = (data.length + blockSize - 1) / blockSize;
+
+        // counts[block][bucket]
+        final int[][] counts = new int[blocks][];
+        ParallelScan.forEachBlock(pool, blocks, block -> {
+            final int from = block * blockSize;
+            final int to = Math.min(data.length, from + blockSize);
+            final int[] blockCounts = new int[buckets];
+            for (int i = from; i < to; i++) {
+                blockCounts[bucketOf(splitters, data[i])]++;
+            }
+            counts[block] = blockCounts;
+        });
+
+        // turn counts into write positions, bucket by bucket
+        final int[] bucketStarts = new int[buckets + 1];
+        int position = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            bucketStarts[bucket] = position;
+            for (int block = 0; block < blocks; block++) {
+                final int count = counts[block][bucket];
+                counts[block][bucket] = position;
+                position += count;
+            }
+        }
+        bucketStarts[buckets] = position;
+
+        final long[] buffer = new long[data.length];
+        ParallelScan.forEachBlock(pool, blocks, block -> {
+            final int from = block * blockSize;
+            final int to = Math.min(data.length, from + blockSize);
+            final int[] positions = counts[block];
+            for (int i = from; i < to; i++) {
+                final long value = data[i];
+                buffer[positions[bucketOf(splitters, value)]++] = value;
+            }
+        });
+
+        ParallelScan.forEachBlock(pool, buckets, bucket -> {
+            final int from = bucketStarts[bucket];
+            final int to = bucketStarts[bucket + 1];
+            Arrays.sort(buffer, from, to);
+            System.arraycopy(buffer, from, data, from, to - from);
+        });
+    }
+
+    private static long[] splitters(long[] data, int buckets) {
+        final SplittableRandom random = new SplittableRandom(data.length);
+        final long[] sample = new long[buckets * OVERSAMPLING];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = data[random.nextInt(data.length)];
+        }
+        Arrays.sort(sample);
+
+        final long[] splitters = new long[buckets - 1];
+        for (int i = 0; i < splitters.length; i++) {
+            splitters[i] = sample[(i + 1) * OVERSAMPLING];
+        }
+        return splitters;
+    }
+
+    /**
+     * Index of the first splitter greater than {@code value}, i.e. bucket {@code b} holds
+     * values in {@code [splitters[b - 1], splitters[b])}.
+     */
+    private static int bucketOf(long[] splitters, long value) {
+        int lo = 0;
+        int hi = splitters.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (splitters[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,284 @@
+package forkjoinpool;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * In-place parallel prefix scan with an associative operator on a caller-supplied pool.
+ *
+ * <p>The array is cut into blocks. The first pass reduces every block in parallel,
+ * then the block totals are scanned sequentially into per-block carries, and the second pass
+ * scans every block in parallel starting from its carry. That is about {@code 2n} operator
+ * applications, the same order as a sequential scan.
+ */
+public class ParallelScan {
+
+    private ParallelScan() {
+    }
+
+    public static void inclusiveScan(ForkJoinPool pool, int[] data, IntBinaryOperator op) {
+        final int blockSize = ParallelReducer.leafSize(data.length, pool.getParallelism());
+        final int blocks = blocks(data.length, blockSize);
+        if (blocks <= 1) {
+            scanBlock(data, 0, data.length, op);
+            return;
+        }
+
+        final int[] carries = intCarries(pool, data, blockSize, blocks, op);
+        forEachBlock(pool, blocks, block -> {
+            final int from = block * blockSize;
+            final int to = Math.min(data.length, from + blockSize);
+            if (block == 0) {
+                scanBlock(data, from, to, op);
+            } else {
+                data[from] = op.applyAsInt(carries[block], data[from]);
+                scanBlock(data, from, to, op);
+            }
+        });
+    }
+
+    public static void exclusiveScan(ForkJoinPool pool, int[] data, int identity, IntBinaryOperator op) {
+        final int blockSize = ParallelReducer.leafSize(data.length, pool.getParallelism());
+        final int blocks = blocks(data.length, blockSize);
+        if (blocks <= 1) {
+            exclusiveScanBlock(data, 0, data.length, identity, op);
+            return;
+        }
+
+        final int[] carries = intCarries(pool, data, blockSize, blocks, op);
+        forEachBlock(pool, blocks, block -> {
+            final int from = block * blockSize;
+            final int to = Math.min(data.length, from + blockSize);
+            exclusiveScanBlock(data, from, to, block == 0 ? identity : carries[block], op);
+        });
+    }
+
+    public static void inclusiveScan(ForkJoinPool pool, long[] data, LongBinaryOperator op) {
+        final int blockSize = ParallelReducer.leafSize(data.length, pool.getParallelism());
+        final int blocks = blocks(data.length, blockSize);
+        if (blocks <= 1) {
+            scanBlock(data, 0, data.length, op);
+            return;
+        }
+
+        final long[] carries = longCarries(pool, data, blockSize, blocks, op);
+        forEachBlock(pool, blocks, block -> {
+            final int from = block * blockSize;
+            final int to = Math.min(data.length, from + blockSize);
+            if (block == 0) {
+                scanBlock(data, from, to, op);
+            } else {
+                data[from] = op.applyAsLong(carries[block], data[from]);
+                scanBlock(data, from, to, op);
+            }
+        });
+    }
+
+    public static void exclusiveScan(ForkJoinPool pool, long[] data, long identity, LongBinaryOperator op) {
+        final int blockSize = ParallelReducer.leafSize(data.length, pool.getParallelism());
+        final int blocks = blocks(data.length, blockSize);
+        if (blocks <= 1) {
+            exclusiveScanBlock(data, 0, data.length, identity, op);
+            return;
+        }
+
+        final long[] carries = longCarries(pool, data, blockSize, blocks, op);
+        forEachBlock(pool, blocks, block -> {
+            final int from = block * blockSize;
+            final int to = Math.min(data.length, from + blockSize);
+            exclusiveScanBlock(data, from, to, block == 0 ? identity : carries[block], op);
+        });
+    }
+
+    public static <T> void inclusiveScan(ForkJoinPool pool, T[] data, BinaryOperator<T> op) {
+        final int blockSize = ParallelReducer.leafSize(data.length, pool.getParallelism());
+        final int blocks = blocks(data.length, blockSize);
+        if (blocks <= 1) {
+            scanBlock(data, 0, data.length, op);
+            return;
+        }
+
+        final Object[] carries = carries(pool, data, blockSize, blocks, op);
+        forEachBlock(pool, blocks, block -> {
+            final int from = block * blockSize;
+            final int to = Math.min(data.length, from + blockSize);
+            if (block == 0) {
+                scanBlock(data, from, to, op);
+            } else {
+                @SuppressWarnings("unchecked")
+                final T carry = (T) carries[block];
+                data[from] = op.apply(carry, data[from]);
+                scanBlock(data, from, to, op);
+            }
+        });
+    }
+
+    public static <T> void exclusiveScan(ForkJoinPool pool, T[] data, T identity, BinaryOperator<T> op) {
+        final int blockSize = ParallelReducer.leafSize(data.length, pool.getParallelism());
+        final int blocks = blocks(data.length, blockSize);
+        if (blocks <= 1) {
+            exclusiveScanBlock(data, 0, data.length, identity, op);
+            return;
+        }
+
+        final Object[] carries = carries(pool, data, blockSize, blocks, op);
+        forEachBlock(pool, blocks, block -> {
+            final int from = block * blockSize;
+            final int to = Math.min(data.length, from + blockSize);
+            @SuppressWarnings("unchecked")
+            final T carry = block == 0 ? identity : (T) carries[block];
+            exclusiveScanBlock(data, from, to, carry, op);
+        });
+    }
+
+    private static int blocks(int length, int blockSize) {
+        return (int) (((long) length + blockSize - 1) / blockSize);
+    }
+
+    // carries[b] combines all blocks before b, carries[0] is unused
+
+    private static int[] intCarries(ForkJoinPool pool, int[] data, int blockSize, int blocks, IntBinaryOperator op) {
+        final int[] totals = new int[blocks - 1];
+        forEachBlock(pool, blocks - 1, block -> {
+            final int from = block * blockSize;
+            final int to = from + blockSize;
+            int total = data[from];
+            for (int i = from + 1; i < to; i++) {
+                total = op.applyAsInt(total, data[i]);
+            }
+            totals[block] = total;
+        });
+
+        final int[] carries = new int[blocks];
+        carries[1] = totals[0];
+        for (int block = 2; block < blocks; block++) {
+            carries[block] = op.applyAsInt(carries[block - 1], totals[block - 1]);
+        }
+        return carries;
+    }
+
+    private static long[] longCarries(ForkJoinPool pool, long[] data, int blockSize, int blocks, LongBinaryOperator op) {
+        final long[] totals = new long[blocks - 1];
+        forEachBlock(pool, blocks - 1, block -> {
+            final int from = block * blockSize;
+            final int to = from + blockSize;
+            long total = data[from];
+            for (int i = from + 1; i < to; i++) {
+                total = op.applyAsLong(total, data[i]);
+            }
+            totals[block] = total;
+        });
+
+        final long[] carries = new long[blocks];
+        carries[1] = totals[0];
+        for (int block = 2; block < blocks; block++) {
+            carries[block] = op.applyAsLong(carries[block - 1], totals[block - 1]);
+        }
+        return carries;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Object[] carries(ForkJoinPool pool, T[] data, int blockSize, int blocks, BinaryOperator<T> op) {
+        final Object[] totals = new Object[blocks - 1];
+        forEachBlock(pool, blocks - 1, block -> {
+            final int from = block * blockSize;
+            final int to = from + blockSize;
+            T total = data[from];
+            for (int i = from + 1; i < to; i++) {
+                total = op.apply(total, data[i]);
+            }
+            totals[block] = total;
+        });
+
+        final Object[] carries = new Object[blocks];
+        carries[1] = totals[0];
+        for (int block = 2; block < blocks; block++) {
+            carries[block] = op.apply((T) carries[block - 1], (T) totals[block - 1]);
+        }
+        return carries;
+    }
+
+    private static void scanBlock(int[] data, int from, int to, IntBinaryOperator op) {
+        for (int i = from + 1; i < to; i++) {
+            data[i] = op.applyAsInt(data[i - 1], data[i]);
+        }
+    }
+
+    private static void scanBlock(long[] data, int from, int to, LongBinaryOperator op) {
+        for (int i = from + 1; i < to; i++) {
+            data[i] = op.applyAsLong(data[i - 1], data[i]);
+        }
+    }
+
+    private static <T> void scanBlock(T[] data, int from, int to, BinaryOperator<T> op) {
+        for (int i = from + 1; i < to; i++) {
+            data[i] = op.apply(data[i - 1], data[i]);
+        }
+    }
+
+    private static void exclusiveScanBlock(int[] data, int from, int to, int carry, IntBinaryOperator op) {
+        int running = carry;
+        for (int i = from; i < to; i++) {
+            final int value = data[i];
+            data[i] = running;
+            running = op.applyAsInt(running, value);
+        }
+    }
+
+    private static void exclusiveScanBlock(long[] data, int from, int to, long carry, LongBinaryOperator op) {
+        long running = carry;
+        for (int i = from; i < to; i++) {
+            final long value = data[i];
+            data[i] = running;
+            running = op.applyAsLong(running, value);
+        }
+    }
+
+    private static <T> void exclusiveScanBlock(T[] data, int from, int to, T carry, BinaryOperator<T> op) {
+        T running = carry;
+        for (int i = from; i < to; i++) {
+            final T value = data[i];
+            data[i] = running;
+            running = op.apply(running, value);
+        }
+    }
+
+    /**
+     * Runs {@code action} for every block index in {@code [0, blocks)} in parallel and waits for all of them.
+     */
+    static void forEachBlock(ForkJoinPool pool, int blocks, IntConsumer action) {
+        pool.invoke(new BlockTask(0, blocks, action));
+    }
+
+    private static class BlockTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        private BlockTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    action.accept(from);
+                }
+                return;
+            }
+
+            final int mid = (from + to) >>> 1;
+            final BlockTask left = new BlockTask(from, mid, action);
+            left.fork();
+            new BlockTask(mid, to, action).compute();
+            left.join();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package forkjoinpool;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class ParallelScanBenchmark {
+
+    @Param({"1000000", "10000000", "50000000"})
+    public int length;
+
+    public ForkJoinPool pool;
+
+    // job durations and their running totals
+    public int[] durations;
+    public long[] durationsLong;
+    public Long[] durationsBoxed;
+
+    public int[] ints;
+    public long[] longs;
+    public Long[] boxed;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        pool = new ForkJoinPool();
+        durations = new int[length];
+        Arrays.setAll(durations, i -> ThreadLocalRandom.current().nextInt(1, 11));
+        durationsLong = Arrays.stream(durations).asLongStream().toArray();
+        durationsBoxed = Arrays.stream(durationsLong).boxed().toArray(Long[]::new);
+
+        ints = new int[length];
+        longs = new long[length];
+        boxed = new Long[length];
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        System.arraycopy(durations, 0, ints, 0, length);
+        System.arraycopy(durationsLong, 0, longs, 0, length);
+        System.arraycopy(durationsBoxed, 0, boxed, 0, length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long[] long_sequential() {
+        for (int i = 1; i < longs.length; i++) {
+            longs[i] += longs[i - 1];
+        }
+        return longs;
+    }
+
+    @Benchmark
+    public long[] long_parallelPrefix() {
+        Arrays.parallelPrefix(longs, Long::sum);
+        return longs;
+    }
+
+    @Benchmark
+    public long[] long_scan() {
+        ParallelScan.inclusiveScan(pool, longs, Long::sum);
+        return longs;
+    }
+
+    @Benchmark
+    public long[] long_exclusive_scan() {
+        ParallelScan.exclusiveScan(pool, longs, 0, Long::sum);
+        return longs;
+    }
+
+    @Benchmark
+    public int[] int_sequential() {
+        for (int i = 1; i < ints.length; i++) {
+            ints[i] += ints[i - 1];
+        }
+        return ints;
+    }
+
+    @Benchmark
+    public int[] int_parallelPrefix() {
+        Arrays.parallelPrefix(ints, Integer::sum);
+        return ints;
+    }
+
+    @Benchmark
+    public int[] int_scan() {
+        ParallelScan.inclusiveScan(pool, ints, Integer::sum);
+        return ints;
+    }
+
+    @Benchmark
+    public Long[] boxed_parallelPrefix() {
+        Arrays.parallelPrefix(boxed, Long::sum);
+        return boxed;
+    }
+
+    @Benchmark
+    public Long[] boxed_scan() {
+        ParallelScan.inclusiveScan(pool, boxed, Long::sum);
+        return boxed;
+    }
+}
@@ -0,0 +1,87 @@
+package forkjoinpool;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelScanTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+    private static final int[] LENGTHS = {0, 1, 2, ParallelReducer.MIN_LEAF_SIZE, ParallelReducer.MIN_LEAF_SIZE + 1, 1_000_003};
+
+    @AfterClass
+    public static void shutdown() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void intScans() {
+        for (int length : LENGTHS) {
+            final int[] data = new Random(length).ints(length, 0, 100).toArray();
+
+            final int[] inclusive = data.clone();
+            ParallelScan.inclusiveScan(POOL, inclusive, Integer::sum);
+            final int[] expected = data.clone();
+            Arrays.parallelPrefix(expected, Integer::sum);
+            assertArrayEquals(expected, inclusive);
+
+            final int[] exclusive = data.clone();
+            ParallelScan.exclusiveScan(POOL, exclusive, 0, Integer::sum);
+            for (int i = 0; i < length; i++) {
+                expected[i] -= data[i];
+            }
+            assertArrayEquals(expected, exclusive);
+        }
+    }
+
+    @Test
+    public void longScans() {
+        for (int length : LENGTHS) {
+            final long[] data = new Random(length).longs(length, -100, 100).toArray();
+
+            final long[] inclusive = data.clone();
+            ParallelScan.inclusiveScan(POOL, inclusive, Math::max);
+            final long[] expected = data.clone();
+            Arrays.parallelPrefix(expected, Math::max);
+            assertArrayEquals(expected, inclusive);
+
+            final long[] exclusive = data.clone();
+            ParallelScan.exclusiveScan(POOL, exclusive, Long.MIN_VALUE, Math::max);
+            for (int i = 0; i < length; i++) {
+                assertEquals(i == 0 ? Long.MIN_VALUE : expected[i - 1], exclusive[i]);
+            }
+        }
+    }
+
+    @Test
+    public void objectScansKeepOrder() {
+        for (int length : new int[]{0, 1, 20_001}) {
+            final String[] data = new String[length];
+            Arrays.setAll(data, i -> String.valueOf((char) ('a' + i % 26)));
+
+            final String[] inclusive = data.clone();
+            ParallelScan.inclusiveScan(POOL, inclusive, ParallelScanTest::lastFour);
+            final String[] expected = data.clone();
+            Arrays.parallelPrefix(expected, ParallelScanTest::lastFour);
+            assertArrayEquals(expected, inclusive);
+
+            final String[] exclusive = data.clone();
+            ParallelScan.exclusiveScan(POOL, exclusive, "", ParallelScanTest::lastFour);
+            for (int i = 1; i < length; i++) {
+                assertEquals(expected[i - 1], exclusive[i]);
+            }
+        }
+    }
+
+    // associative, but not commutative
+    private static String lastFour(String a, String b) {
+        final String s = a + b;
+        return s.length() > 4 ? s.substring(s.length() - 4) : s;
+    }
+}
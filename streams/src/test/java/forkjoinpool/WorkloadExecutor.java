@@ -0,0 +1,188 @@
+package forkjoinpool;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs stream pipelines of one workload in a dedicated, named {@link ForkJoinPool}.
+ *
+ * <p>A parallel stream's terminal operation called from a fork/join worker executes in that worker's pool
+ * instead of the common pool, so a pipeline passed to {@link #submit(Supplier)} uses at most
+ * {@code parallelism} threads and can't starve other workloads. At most {@code maxInFlight} pipelines
+ * are accepted at a time, the rest are rejected right away.
+ */
+public class WorkloadExecutor implements AutoCloseable {
+    private final String name;
+    private final ForkJoinPool pool;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public WorkloadExecutor(String name, int parallelism, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight: " + maxInFlight);
+        }
+        this.name = name;
+        this.maxInFlight = maxInFlight;
+        final AtomicInteger threads = new AtomicInteger();
+        this.pool = new ForkJoinPool(parallelism, p -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName(name + "-worker-" + threads.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Runs {@code pipeline} (typically ending with a terminal operation of a parallel stream) in this workload's pool.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> pipeline) {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            rejected.incrementAndGet();
+            final CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(new RejectedExecutionException(
+                    name + ": more than " + maxInFlight + " pipelines in flight"));
+            return result;
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(pipeline, pool)
+                    .whenComplete((res, e) -> {
+                        inFlight.decrementAndGet();
+                        if (e == null) {
+                            completed.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            // the pool is shut down
+            inFlight.decrementAndGet();
+            rejected.incrementAndGet();
+            throw e;
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(this);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return pool.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Point-in-time gauges of a workload. Pool figures are estimates, as in {@link ForkJoinPool}.
+     */
+    public static class Stats {
+        private final String name;
+        private final int parallelism;
+        private final int poolSize;
+        private final int activeThreads;
+        private final int runningThreads;
+        private final long queuedTasks;
+        private final int queuedSubmissions;
+        private final long steals;
+        private final int inFlight;
+        private final long completed;
+        private final long failed;
+        private final long rejected;
+
+        private Stats(WorkloadExecutor executor) {
+            final ForkJoinPool pool = executor.pool;
+            this.name = executor.name;
+            this.parallelism = pool.getParallelism();
+            this.poolSize = pool.getPoolSize();
+            this.activeThreads = pool.getActiveThreadCount();
+            this.runningThreads = pool.getRunningThreadCount();
+            this.queuedTasks = pool.getQueuedTaskCount();
+            this.queuedSubmissions = pool.getQueuedSubmissionCount();
+            this.steals = pool.getStealCount();
+            this.inFlight = executor.inFlight.get();
+            this.completed = executor.completed.get();
+            this.failed = executor.failed.get();
+            this.rejected = executor.rejected.get();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public int getActiveThreads() {
+            return activeThreads;
+        }
+
+        public int getRunningThreads() {
+            return runningThreads;
+        }
+
+        /**
+         * Tasks in workers' queues plus submissions not yet picked up by a worker.
+         */
+        public long getQueueDepth() {
+            return queuedTasks + queuedSubmissions;
+        }
+
+        public long getSteals() {
+            return steals;
+        }
+
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        /**
+         * Pipelines that threw; they aren't counted as completed.
+         */
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        @Override
+        public String toString() {
+            return name + ": parallelism=" + parallelism +
+                    ", poolSize=" + poolSize +
+                    ", active=" + activeThreads +
+                    ", running=" + runningThreads +
+                    ", queueDepth=" + getQueueDepth() +
+                    ", steals=" + steals +
+                    ", inFlight=" + inFlight +
+                    ", completed=" + completed +
+                    ", failed=" + failed +
+                    ", rejected=" + rejected;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package forkjoinpool;
+
+import data.Person;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WorkloadExecutorTest {
+
+    @Test
+    public void parallelStreamRunsInWorkloadPool() throws Exception {
+        try (WorkloadExecutor analytics = new WorkloadExecutor("analytics", 2, 4)) {
+            final Set<String> threads = analytics.submit(() -> IntStream.range(0, 100_000)
+                    .parallel()
+                    .mapToObj(i -> Thread.currentThread().getName())
+                    .collect(Collectors.toSet()))
+                    .get();
+
+            // the pool may add compensation threads, but all of them are its own
+            for (String thread : threads) {
+                assertTrue(thread, thread.startsWith("analytics-worker-"));
+            }
+        }
+    }
+
+    @Test
+    public void returnsPipelineResult() throws Exception {
+        try (WorkloadExecutor executor = new WorkloadExecutor("persons", 2, 1)) {
+            final String result = executor.submit(() -> IntStream.range(0, 5)
+                    .parallel()
+                    .mapToObj(i -> new Person("John", "Doe", i))
+                    .map(Person::getFirstName)
+                    .collect(Collectors.joining(",")))
+                    .get();
+
+            assertEquals("John,John,John,John,John", result);
+            assertEquals(1, executor.getStats().getCompleted());
+        }
+    }
+
+    @Test
+    public void countsThrowingPipelineAsFailed() throws Exception {
+        try (WorkloadExecutor executor = new WorkloadExecutor("failing", 2, 2)) {
+            try {
+                executor.submit(() -> IntStream.range(0, 1000)
+                        .parallel()
+                        .map(i -> 1 / (i - 500))
+                        .sum())
+                        .get();
+                fail("pipeline must fail");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof ArithmeticException);
+            }
+            executor.submit(() -> 1).get();
+
+            final WorkloadExecutor.Stats stats = executor.getStats();
+            assertEquals(1, stats.getFailed());
+            assertEquals(1, stats.getCompleted());
+            assertEquals(0, stats.getInFlight());
+        }
+    }
+
+    @Test
+    public void rejectsPipelinesOverLimit() throws Exception {
+        try (WorkloadExecutor executor = new WorkloadExecutor("limited", 1, 1)) {
+            final CountDownLatch release = new CountDownLatch(1);
+            final CompletableFuture<Integer> running = executor.submit(() -> {
+                await(release);
+                return 1;
+            });
+
+            try {
+                executor.submit(() -> 2).get();
+                fail("second pipeline must be rejected");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof RejectedExecutionException);
+            }
+            assertEquals(1, executor.getStats().getInFlight());
+            assertEquals(1, executor.getStats().getRejected());
+
+            release.countDown();
+            assertEquals(1, (int) running.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}